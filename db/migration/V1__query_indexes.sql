@@ -0,0 +1,62 @@
+-- V1: Composite indexes for the repository finder queries
+-- Run this script in your MySQL database (safe to run more than once)
+--
+-- With ddl-auto: update (the default here), Hibernate creates the same
+-- indexes from the @Index declarations on the entities at startup, on
+-- existing tables as well as new ones. Deployments that run with
+-- SPRING_JPA_HIBERNATE_DDL_AUTO=validate or none should apply this script
+-- instead, so production has the indexes the finders rely on.
+
+USE campus_collab_db;
+
+-- Track which migration scripts have been applied
+CREATE TABLE IF NOT EXISTS schema_version (
+    version     VARCHAR(20)  NOT NULL PRIMARY KEY,
+    description VARCHAR(200) NOT NULL,
+    applied_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- MySQL has no CREATE INDEX IF NOT EXISTS, so check information_schema first
+DROP PROCEDURE IF EXISTS add_index_if_missing;
+
+DELIMITER //
+CREATE PROCEDURE add_index_if_missing(IN tbl VARCHAR(64), IN idx VARCHAR(64), IN cols VARCHAR(255))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = tbl AND index_name = idx) THEN
+        SET @ddl = CONCAT('CREATE INDEX ', idx, ' ON ', tbl, ' (', cols, ')');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+DELIMITER ;
+
+-- Activity logs: newest-first listing, per-user and per-category feeds, date ranges
+CALL add_index_if_missing('activity_logs', 'idx_activity_logs_timestamp', 'timestamp');
+CALL add_index_if_missing('activity_logs', 'idx_activity_logs_user_email_timestamp', 'user_email, timestamp');
+CALL add_index_if_missing('activity_logs', 'idx_activity_logs_category_timestamp', 'action_category, timestamp');
+
+-- Projects: approved feed ordered by creation date, owner lookups
+CALL add_index_if_missing('projects', 'idx_projects_status_created_at', 'status, created_at');
+CALL add_index_if_missing('projects', 'idx_projects_owner', 'owner_id');
+
+-- Contribution requests: dashboard counts, per-user collaboration counts, per-project lists
+CALL add_index_if_missing('contribution_requests', 'idx_contribution_requests_status', 'status');
+CALL add_index_if_missing('contribution_requests', 'idx_contribution_requests_requested_by_status', 'requested_by, status');
+CALL add_index_if_missing('contribution_requests', 'idx_contribution_requests_project_status', 'project_id, status');
+
+-- Problem submissions: covering index for the weekly/monthly leaderboard range
+CALL add_index_if_missing('problem_submission', 'idx_problem_submission_date_user_points', 'submission_date, user_id, points');
+
+-- Users: role counts and role + course student listings
+CALL add_index_if_missing('users', 'idx_users_role_course', 'role, course');
+
+-- project_likes (project_id, user_id) is already covered by its unique constraint
+
+DROP PROCEDURE add_index_if_missing;
+
+INSERT IGNORE INTO schema_version (version, description) VALUES ('1', 'query indexes');
+
+-- Verify the change
+SHOW INDEX FROM activity_logs;
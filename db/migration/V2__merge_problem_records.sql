@@ -0,0 +1,96 @@
+-- V2: Move problem_records into problem_submission
+-- Run this script in your MySQL database (safe to run more than once)
+--
+-- problem_records duplicated problem_submission with an enum difficulty and
+-- a nullable points column. Rows are copied over (points derived from the
+-- difficulty where missing) and then removed, so ProblemStatsEngine never
+-- counts a problem twice. Links are compared the way ProblemLinkIndex
+-- normalizes them: a record is skipped when the user already submitted the
+-- same problem, or when an older record of theirs points at it too.
+-- The empty table is kept until the ProblemRecord entity is deleted.
+
+USE campus_collab_db;
+
+CREATE TABLE IF NOT EXISTS schema_version (
+    version     VARCHAR(20)  NOT NULL PRIMARY KEY,
+    description VARCHAR(200) NOT NULL,
+    applied_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+DROP FUNCTION IF EXISTS normalize_problem_link;
+
+DELIMITER //
+-- Same rules as ProblemLinkIndex.normalize: without scheme, "www.", fragment,
+-- tracking parameters or trailing slashes, host lower-cased and path and query
+-- left as they are; NULL when nothing is left. The result is compared as binary,
+-- so links differing only in the case of the path stay distinct as they do in Java.
+CREATE FUNCTION normalize_problem_link(link VARCHAR(2048))
+    RETURNS VARCHAR(2048) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin
+    DETERMINISTIC NO SQL
+BEGIN
+    DECLARE v_path VARCHAR(2048);
+    DECLARE v_query VARCHAR(2048) DEFAULT '';
+    DECLARE v_host VARCHAR(2048);
+    IF link IS NULL THEN
+        RETURN NULL;
+    END IF;
+    SET v_path = SUBSTRING_INDEX(TRIM(link), '#', 1);
+    IF LOCATE('?', v_path) > 0 THEN
+        SET v_query = SUBSTRING(v_path, LOCATE('?', v_path) + 1);
+        SET v_path = SUBSTRING_INDEX(v_path, '?', 1);
+        -- Drop utm_*, ref, fbclid, gclid, envtype, envid (any case) and empty parameters, keeping the order
+        SET v_query = REGEXP_REPLACE(CONCAT('&', v_query, '&'),
+                '&((utm_[^=&]*|ref|fbclid|gclid|envtype|envid)(=[^&]*)?)?(?=&)', '', 1, 0, 'i');
+        SET v_query = TRIM(BOTH '&' FROM v_query);
+    END IF;
+    IF LOCATE('://', v_path) > 0 THEN
+        SET v_path = SUBSTRING(v_path, LOCATE('://', v_path) + 3);
+    END IF;
+    SET v_host = SUBSTRING_INDEX(v_path, '/', 1);
+    SET v_path = CONCAT(LOWER(v_host), SUBSTRING(v_path, CHAR_LENGTH(v_host) + 1));
+    IF v_path LIKE 'www.%' THEN
+        SET v_path = SUBSTRING(v_path, 5);
+    END IF;
+    SET v_path = TRIM(TRAILING '/' FROM v_path);
+    IF v_path = '' THEN
+        RETURN NULL;
+    END IF;
+    RETURN IF(v_query = '', v_path, CONCAT(v_path, '?', v_query));
+END //
+DELIMITER ;
+
+START TRANSACTION;
+
+INSERT INTO problem_submission (platform, problem_link, difficulty, points, submission_date, user_id)
+SELECT r.platform,
+       r.problem_link,
+       r.difficulty,
+       COALESCE(r.points, CASE r.difficulty
+                              WHEN 'EASY' THEN 10
+                              WHEN 'MEDIUM' THEN 20
+                              WHEN 'HARD' THEN 30
+                              ELSE 0
+                          END),
+       r.solved_date,
+       r.user_id
+FROM problem_records r
+WHERE r.user_id IS NOT NULL
+  AND (normalize_problem_link(r.problem_link) IS NULL
+       OR (NOT EXISTS (SELECT 1 FROM problem_submission s
+                       WHERE s.user_id = r.user_id
+                         AND normalize_problem_link(s.problem_link) = normalize_problem_link(r.problem_link))
+           AND NOT EXISTS (SELECT 1 FROM problem_records d
+                           WHERE d.user_id = r.user_id
+                             AND d.id < r.id
+                             AND normalize_problem_link(d.problem_link) = normalize_problem_link(r.problem_link))));
+
+DELETE FROM problem_records WHERE user_id IS NOT NULL;
+
+INSERT IGNORE INTO schema_version (version, description) VALUES ('2', 'merge problem_records into problem_submission');
+
+COMMIT;
+
+DROP FUNCTION IF EXISTS normalize_problem_link;
+
+-- Verify the change
+SELECT COUNT(*) AS remaining_problem_records FROM problem_records;
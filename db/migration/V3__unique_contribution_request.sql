@@ -0,0 +1,46 @@
+-- V3: One contribution request per (project, requester)
+-- Run this script in your MySQL database (safe to run more than once)
+--
+-- Removes duplicate requests for the same project and user, keeping an
+-- approved one if there is one and otherwise the newest, then adds the
+-- unique key declared on ContributionRequest. Re-requesting after a
+-- rejection now reopens the existing row instead of inserting a new one.
+
+USE campus_collab_db;
+
+CREATE TABLE IF NOT EXISTS schema_version (
+    version     VARCHAR(20)  NOT NULL PRIMARY KEY,
+    description VARCHAR(200) NOT NULL,
+    applied_at  TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+DELETE r
+FROM contribution_requests r
+JOIN contribution_requests k
+  ON k.project_id = r.project_id
+ AND k.requested_by = r.requested_by
+ AND ((k.status = 'APPROVED') > (r.status = 'APPROVED')
+      OR ((k.status = 'APPROVED') = (r.status = 'APPROVED') AND k.id > r.id));
+
+DROP PROCEDURE IF EXISTS add_unique_key_if_missing;
+
+DELIMITER //
+CREATE PROCEDURE add_unique_key_if_missing()
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE()
+                     AND table_name = 'contribution_requests'
+                     AND index_name = 'uk_contribution_requests_project_requester') THEN
+        ALTER TABLE contribution_requests
+            ADD CONSTRAINT uk_contribution_requests_project_requester UNIQUE (project_id, requested_by);
+    END IF;
+END //
+DELIMITER ;
+
+CALL add_unique_key_if_missing();
+DROP PROCEDURE add_unique_key_if_missing;
+
+INSERT IGNORE INTO schema_version (version, description) VALUES ('3', 'unique contribution request per project and requester');
+
+-- Verify the change
+SHOW INDEX FROM contribution_requests;
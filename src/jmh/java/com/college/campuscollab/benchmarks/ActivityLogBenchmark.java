@@ -0,0 +1,36 @@
+package com.college.campuscollab.benchmarks;
+
+import com.college.campuscollab.entity.ActivityLog;
+import com.college.campuscollab.entity.Role;
+import com.college.campuscollab.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * ActivityLog.create, called for nearly every user action, including the
+ * description string concatenation the callers do.
+ */
+@State(Scope.Benchmark)
+public class ActivityLogBenchmark {
+
+    private User user;
+    private String projectName;
+
+    @Setup
+    public void setUp() {
+        user = new User();
+        user.setId(7L);
+        user.setFullName("Asha Rao");
+        user.setEmail("asha@college.edu");
+        user.setRole(Role.STUDENT);
+        projectName = "Campus Maps";
+    }
+
+    @Benchmark
+    public ActivityLog create() {
+        return ActivityLog.create(user, "PROJECT_UPLOAD", "PROJECT",
+                "User " + user.getFullName() + " uploaded project '" + projectName + "'");
+    }
+}
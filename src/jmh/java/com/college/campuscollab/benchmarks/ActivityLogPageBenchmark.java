@@ -0,0 +1,99 @@
+package com.college.campuscollab.benchmarks;
+
+import com.college.campuscollab.CampusCollabPlatformApplication;
+import com.college.campuscollab.dto.ActivityLogDTO;
+import com.college.campuscollab.entity.ActivityLog;
+import com.college.campuscollab.repository.ActivityLogRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of the activity log feed, read as the DTO projection
+ * (ActivityLogRepository.findFeed) against loading the ActivityLog entities
+ * with the same query and mapping them with ActivityLogDTO.fromEntity, as
+ * the feed did before. Runs the application against in-memory H2 (the
+ * loadtest profile), so both include the JDBC round trip and Hibernate's
+ * result handling; the entity path also pays for dirty-checking snapshots.
+ */
+@State(Scope.Benchmark)
+public class ActivityLogPageBenchmark {
+
+    private static final String ENTITY_FEED = "SELECT a FROM ActivityLog a WHERE "
+            + ActivityLogRepository.AFTER_CURSOR + ActivityLogRepository.FEED_ORDER;
+
+    @Param({ "1000" })
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private ActivityLogRepository activityLogRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private LocalDateTime cursor;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CampusCollabPlatformApplication.class)
+                .profiles("loadtest")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:activitylogpage;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                                + "DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create");
+        activityLogRepository = context.getBean(ActivityLogRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> logs = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            logs.add(new Object[] { "student" + i % 50 + "@college.edu", "Student " + i % 50, "STUDENT",
+                    "PROJECT_LIKE", "PROJECT", "User Student " + i % 50 + " liked project 'Project " + i + "'",
+                    "SUCCESS", now.minusMinutes(i) });
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate("INSERT INTO activity_logs (user_email, user_full_name, "
+                + "user_role, action_type, action_category, description, status, \"timestamp\") "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", logs);
+        cursor = now.plusDays(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ActivityLogDTO> projection() {
+        return readOnly.execute(status -> activityLogRepository
+                .findFeed(cursor, Long.MAX_VALUE, PageRequest.of(0, rows))
+                .getContent());
+    }
+
+    @Benchmark
+    public List<ActivityLogDTO> entity() {
+        return readOnly.execute(status -> entityManager.createQuery(ENTITY_FEED, ActivityLog.class)
+                .setParameter("ts", cursor)
+                .setParameter("id", Long.MAX_VALUE)
+                .setMaxResults(rows)
+                .getResultStream()
+                .map(ActivityLogDTO::fromEntity)
+                .toList());
+    }
+}
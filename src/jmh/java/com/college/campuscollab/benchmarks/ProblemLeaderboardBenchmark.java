@@ -0,0 +1,74 @@
+package com.college.campuscollab.benchmarks;
+
+import com.college.campuscollab.dto.ProblemLeaderboardEntryDTO;
+import com.college.campuscollab.event.ProblemSubmittedEvent;
+import com.college.campuscollab.service.ProblemActivityRollup;
+import com.college.campuscollab.service.ProblemStatsEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Leaderboard aggregation behind ProblemSubmissionServiceImpl.getLeaderboard
+ * over a year of submissions. The weekly and monthly endpoints (the last 8
+ * and 31 days) are answered by ProblemActivityRollup's daily buckets, older
+ * ranges such as all-time by ProblemStatsEngine's columns, so each benchmark
+ * uses the component that serves it. Name lookup (one findAllById per page)
+ * is not included.
+ */
+@State(Scope.Benchmark)
+public class ProblemLeaderboardBenchmark {
+
+    private static final String[] PLATFORMS = { "LeetCode", "Codeforces", "HackerRank", "CodeChef" };
+    private static final String[] DIFFICULTIES = { "EASY", "MEDIUM", "HARD" };
+
+    @Param({ "1000" })
+    public int users;
+
+    @Param({ "200000" })
+    public int submissions;
+
+    private ProblemStatsEngine engine;
+    private ProblemActivityRollup rollup;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        // Fed through the event listeners; the repositories are only used by rebuild()
+        engine = new ProblemStatsEngine(null, null);
+        rollup = new ProblemActivityRollup(null, null);
+        // The rollup's window ends at the real today
+        today = LocalDate.now();
+        LocalDate first = today.minusDays(364);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < submissions; i++) {
+            LocalDate day = first.plusDays((long) i * 365 / submissions);
+            String difficulty = DIFFICULTIES[random.nextInt(DIFFICULTIES.length)];
+            ProblemSubmittedEvent event = new ProblemSubmittedEvent((long) i, 1L + random.nextInt(users), day,
+                    PLATFORMS[random.nextInt(PLATFORMS.length)], difficulty, 10 * (1 + random.nextInt(3)));
+            engine.onProblemSubmitted(event);
+            rollup.onProblemSubmitted(event);
+        }
+    }
+
+    @Benchmark
+    public List<ProblemLeaderboardEntryDTO> weekly() {
+        return rollup.getLeaderboard(today.minusDays(7), today, 50);
+    }
+
+    @Benchmark
+    public List<ProblemLeaderboardEntryDTO> monthly() {
+        return rollup.getLeaderboard(today.minusDays(30), today, 50);
+    }
+
+    @Benchmark
+    public List<ProblemLeaderboardEntryDTO> allTime() {
+        return engine.getLeaderboard(today.minusDays(365), today, 50);
+    }
+}
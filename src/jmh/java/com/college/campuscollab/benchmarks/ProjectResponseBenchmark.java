@@ -0,0 +1,76 @@
+package com.college.campuscollab.benchmarks;
+
+import com.college.campuscollab.dto.ProjectResponse;
+import com.college.campuscollab.entity.Project;
+import com.college.campuscollab.entity.Role;
+import com.college.campuscollab.entity.User;
+import com.college.campuscollab.service.impl.ProjectServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ProjectServiceImpl.convertToResponse, which every project list endpoint
+ * runs per row. The screenshot mix covers each branch of the URL rewriting:
+ * bare file names, Unix paths and Windows paths from old uploads.
+ */
+@State(Scope.Benchmark)
+public class ProjectResponseBenchmark {
+
+    @Param({ "filename", "unix-path", "windows-path" })
+    public String screenshotStyle;
+
+    private ProjectServiceImpl projectService;
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        // Only the conversion is measured; it touches none of the collaborators
+        projectService = new ProjectServiceImpl(null, null, null, null);
+        ReflectionTestUtils.setField(projectService, "baseUrl", "https://studenthub.example.org");
+
+        User owner = new User();
+        owner.setId(7L);
+        owner.setFullName("Asha Rao");
+        owner.setEmail("asha@college.edu");
+        owner.setRole(Role.STUDENT);
+
+        project = new Project();
+        project.setId(42L);
+        project.setProjectName("Campus Maps");
+        project.setTeamLeaderName("Asha Rao");
+        project.setCourse("BCA");
+        project.setSemester(5);
+        project.setTechStack("Java, Spring Boot, React");
+        project.setDescription("Indoor navigation for the main campus buildings.");
+        project.setLiveLink("https://maps.example.org");
+        project.setCodeLink("https://github.com/example/campus-maps");
+        project.setStatus("APPROVED");
+        project.setViewCount(1200);
+        project.setLikeCount(87);
+        project.setCreatedAt(LocalDateTime.of(2024, 3, 1, 12, 30));
+        project.setOwner(owner);
+        project.setScreenshots(screenshots(screenshotStyle));
+    }
+
+    @Benchmark
+    public ProjectResponse convertToResponse() {
+        return projectService.convertToResponse(project);
+    }
+
+    private static List<String> screenshots(String style) {
+        return switch (style) {
+            case "unix-path" -> List.of("uploads/projects/a1.png", "uploads/projects/a2.png",
+                    "uploads/projects/a3.jpg", "uploads/projects/a4.jpg");
+            case "windows-path" -> List.of("C:\\uploads\\projects\\a1.png", "C:\\uploads\\projects\\a2.png",
+                    "C:\\uploads\\projects\\a3.jpg", "C:\\uploads\\projects\\a4.jpg");
+            default -> List.of("a1.png", "a2.png", "a3.jpg", "a4.jpg");
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.college.campuscollab.benchmarks;
+
+import com.college.campuscollab.entity.Quiz;
+import com.college.campuscollab.entity.QuizQuestion;
+import com.college.campuscollab.service.QuizAnswerKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The scoring step of QuizServiceImpl.submitQuiz: the correct-answer mask
+ * against the cached answer key, and the key compile paid once per quiz
+ * on a cold QuizCatalog. The rest of submitQuiz only enqueues the row and
+ * publishes an event.
+ */
+@State(Scope.Benchmark)
+public class QuizScoringBenchmark {
+
+    private static final String[] OPTIONS = { "A", "B", "C", "D" };
+
+    @Param({ "10", "50", "200" })
+    public int questions;
+
+    private Quiz quiz;
+    private QuizAnswerKey answerKey;
+    private Map<Long, String> answers;
+
+    @Setup
+    public void setUp() {
+        quiz = new Quiz();
+        quiz.setId(1L);
+        List<QuizQuestion> quizQuestions = new ArrayList<>(questions);
+        answers = new HashMap<>();
+        for (int i = 0; i < questions; i++) {
+            QuizQuestion question = new QuizQuestion();
+            question.setId(1000L + i * 3L);
+            question.setQuiz(quiz);
+            question.setCorrectOption(OPTIONS[i % 4]);
+            quizQuestions.add(question);
+            // Roughly two thirds right, answered in the lower case some clients send
+            answers.put(question.getId(), (i % 3 == 0 ? OPTIONS[(i + 1) % 4] : OPTIONS[i % 4]).toLowerCase());
+        }
+        quiz.setQuestions(quizQuestions);
+        answerKey = QuizAnswerKey.compile(quiz);
+    }
+
+    @Benchmark
+    public int score() {
+        return QuizAnswerKey.countCorrect(answerKey.correctMask(answers));
+    }
+
+    @Benchmark
+    public QuizAnswerKey compileAnswerKey() {
+        return QuizAnswerKey.compile(quiz);
+    }
+}
@@ -0,0 +1,109 @@
+package com.college.campuscollab.controller;
+
+import com.college.campuscollab.dto.ProjectSummaryDTO;
+import com.college.campuscollab.entity.Project;
+import com.college.campuscollab.entity.Role;
+import com.college.campuscollab.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Legacy /api/projects payload (Jackson over the entities) against the
+ * streamed summaries ProjectSummaryJsonWriter writes, for the same page of
+ * projects. In the controller package because the writer is package-private.
+ */
+@State(Scope.Benchmark)
+public class ProjectSummaryJsonBenchmark {
+
+    @Param({ "2000" })
+    public int projects;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private List<Project> entities;
+    private List<ProjectSummaryDTO> summaries;
+    private ProjectSummaryJsonWriter writer;
+    private int summaryBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        entities = new ArrayList<>(projects);
+        summaries = new ArrayList<>(projects);
+        for (int i = 0; i < projects; i++) {
+            Project project = project(i);
+            entities.add(project);
+            summaries.add(summary(project));
+        }
+        writer = new ProjectSummaryJsonWriter(objectMapper.getFactory());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(summaries, out);
+        summaryBytes = out.size();
+    }
+
+    @Benchmark
+    public byte[] entities() throws IOException {
+        return objectMapper.writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream summaries() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(summaryBytes);
+        writer.write(summaries, out);
+        return out;
+    }
+
+    private static Project project(int i) {
+        User owner = new User();
+        owner.setId((long) i % 100);
+        owner.setFullName("Owner " + i % 100);
+        owner.setEmail("owner" + i % 100 + "@college.edu");
+        owner.setRollNumber("R" + i % 100);
+        owner.setCourse("BCA");
+        owner.setSemester(5);
+        owner.setPassword("$2a$10$abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTU");
+        owner.setRole(Role.STUDENT);
+        owner.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0, 0));
+        owner.setLastLoginAt(LocalDateTime.of(2024, 6, 1, 9, 0, 0));
+
+        Project project = new Project();
+        project.setId((long) i);
+        project.setProjectName("Project " + i);
+        project.setTeamLeaderName("Leader " + i);
+        project.setCourse("BCA");
+        project.setSemester(5);
+        project.setTechStack("Java, Spring Boot, React");
+        project.setDescription("A campus collaboration project used to measure serialization cost. ".repeat(4));
+        project.setLiveLink("https://example.org/live/" + i);
+        project.setCodeLink("https://github.com/example/project-" + i);
+        project.setStatus("APPROVED");
+        project.setScreenshots(List.of("shot-" + i + "-a.png", "shot-" + i + "-b.png"));
+        project.setOwner(owner);
+        project.setViewCount(i * 3);
+        project.setLikeCount(i);
+        project.setCreatedAt(LocalDateTime.of(2024, 3, 1, 12, 30, 15).plusMinutes(i));
+        return project;
+    }
+
+    private static ProjectSummaryDTO summary(Project project) {
+        ProjectSummaryDTO summary = new ProjectSummaryDTO(project.getId(), project.getProjectName(),
+                project.getTeamLeaderName(), project.getCourse(), project.getSemester(), project.getTechStack(),
+                project.getDescription(), project.getLiveLink(), project.getCodeLink(), project.getStatus(),
+                project.getViewCount(), project.getLikeCount(), project.getCreatedAt(),
+                project.getOwner().getId(), project.getOwner().getFullName(), project.getOwner().getEmail());
+        summary.setScreenshots(project.getScreenshots());
+        return summary;
+    }
+}
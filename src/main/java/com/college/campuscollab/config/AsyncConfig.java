@@ -0,0 +1,32 @@
+package com.college.campuscollab.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.Semaphore;
+
+// @Async methods run on Spring Boot's applicationTaskExecutor, which uses
+// virtual threads when spring.threads.virtual.enabled is true
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // Bounds concurrent @Async work on the task's own thread. Blocking the caller instead
+    // (spring.task.execution.simple.concurrency-limit) deadlocks: with open-in-view the waiting
+    // request threads hold every pooled connection the queued tasks need.
+    @Bean
+    TaskDecorator asyncConcurrencyLimit(@Value("${async.concurrency-limit:50}") int limit) {
+        Semaphore permits = new Semaphore(limit);
+        return task -> () -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+}
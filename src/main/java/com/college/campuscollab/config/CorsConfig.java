@@ -32,7 +32,7 @@ public class CorsConfig {
         configuration.setAllowCredentials(true);
 
         // Expose Authorization header
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "X-Total-Count", "ETag"));
 
         // Cache preflight response for 1 hour
         configuration.setMaxAge(3600L);
@@ -1,5 +1,6 @@
 package com.college.campuscollab.controller;
 
+import com.college.campuscollab.dto.ActivityLogCursorPage;
 import com.college.campuscollab.dto.ActivityLogDTO;
 import com.college.campuscollab.service.ActivityLogService;
 import lombok.RequiredArgsConstructor;
@@ -103,6 +104,95 @@ public class ActivityLogController {
         return ResponseEntity.ok(logs);
     }
 
+    /**
+     * Cursor feed of all activity logs (Admin only)
+     * GET /api/activity-logs/feed?cursor=&size=&includeTotal=
+     * Pass nextCursor from the previous response to get the next page
+     */
+    @GetMapping("/feed")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ActivityLogCursorPage> getLogFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        try {
+            return ResponseEntity.ok(activityLogService.getLogFeed(cursor, size, includeTotal));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Cursor feed of activity logs by user
+     * GET /api/activity-logs/feed/user/{email}
+     */
+    @GetMapping("/feed/user/{email}")
+    @PreAuthorize("hasRole('ADMIN') or #email == authentication.principal.username")
+    public ResponseEntity<ActivityLogCursorPage> getLogFeedByUser(
+            @PathVariable String email,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        try {
+            return ResponseEntity.ok(activityLogService.getLogFeedByUser(email, cursor, size, includeTotal));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Cursor feed of activity logs by category
+     * GET /api/activity-logs/feed/category/{category}
+     */
+    @GetMapping("/feed/category/{category}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ActivityLogCursorPage> getLogFeedByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        try {
+            return ResponseEntity.ok(activityLogService.getLogFeedByCategory(category, cursor, size, includeTotal));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Cursor feed of activity logs by date range
+     * GET /api/activity-logs/feed/date-range
+     */
+    @GetMapping("/feed/date-range")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ActivityLogCursorPage> getLogFeedByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(activityLogService.getLogFeedByDateRange(startDate, endDate, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Cursor feed of activity log search results
+     * GET /api/activity-logs/feed/search
+     */
+    @GetMapping("/feed/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ActivityLogCursorPage> searchLogFeed(
+            @RequestParam String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(activityLogService.searchLogFeed(query, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * Get activity statistics
      * GET /api/activity-logs/statistics
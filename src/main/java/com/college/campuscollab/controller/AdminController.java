@@ -27,6 +27,22 @@ public class AdminController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Password hashing pool metrics (hash time, queue wait, rejections)
+     */
+    @GetMapping("/metrics/password-hashing")
+    public ResponseEntity<PasswordHashingStatsDTO> getPasswordHashingStats() {
+        return ResponseEntity.ok(adminService.getPasswordHashingStats());
+    }
+
+    /**
+     * Second-level cache hit ratios (entity and natural-id), per region
+     */
+    @GetMapping("/metrics/cache")
+    public ResponseEntity<SecondLevelCacheStatsDTO> getCacheStats() {
+        return ResponseEntity.ok(adminService.getCacheStats());
+    }
+
     /**
      * Get All Students
      * Optional filter by course
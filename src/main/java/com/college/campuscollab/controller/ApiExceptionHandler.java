@@ -0,0 +1,37 @@
+package com.college.campuscollab.controller;
+
+import com.college.campuscollab.exception.PasswordHashingOverloadedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+
+/**
+ * Writes the response for exceptions that must keep their status code.
+ *
+ * @ResponseStatus alone goes through sendError and the /error dispatch, which
+ * Spring Security can turn into a 403 when that dispatch is not permitted.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // Password hashing pool saturated (login, register); the client should back off and retry
+    @ExceptionHandler(PasswordHashingOverloadedException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingOverloaded(PasswordHashingOverloadedException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("message", e.getMessage()));
+    }
+
+    // Request validation in controllers, e.g. a bad date range (400)
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<Map<String, String>> handleResponseStatus(ResponseStatusException e) {
+        String reason = e.getReason() != null ? e.getReason() : e.getStatusCode().toString();
+        return ResponseEntity.status(e.getStatusCode())
+                .body(Map.of("message", reason));
+    }
+}
@@ -6,6 +6,7 @@ import com.college.campuscollab.dto.RegisterRequest;
 import com.college.campuscollab.dto.ForgotPasswordRequest;
 import com.college.campuscollab.dto.ResetPasswordRequest;
 import com.college.campuscollab.entity.User;
+import com.college.campuscollab.exception.PasswordHashingOverloadedException;
 import com.college.campuscollab.security.jwt.JwtUtil;
 import com.college.campuscollab.service.UserService;
 import com.college.campuscollab.service.PasswordResetService;
@@ -60,6 +61,8 @@ public class AuthController {
                                         "User " + registeredUser.getFullName() + " registered successfully");
 
                         return ResponseEntity.ok(java.util.Map.of("message", "User registered successfully"));
+                } catch (PasswordHashingOverloadedException e) {
+                        throw e;
                 } catch (RuntimeException e) {
                         // Return specific error messages from service layer (e.g., "Email already
                         // registered")
@@ -105,6 +108,8 @@ public class AuthController {
                                         "Admin " + registeredAdmin.getFullName() + " registered successfully");
 
                         return ResponseEntity.ok(java.util.Map.of("message", "Admin registered successfully"));
+                } catch (PasswordHashingOverloadedException e) {
+                        throw e;
                 } catch (RuntimeException e) {
                         return ResponseEntity
                                         .badRequest()
@@ -5,7 +5,10 @@ import com.college.campuscollab.dto.ContributionResponse;
 import com.college.campuscollab.entity.ContributionRequest;
 import com.college.campuscollab.entity.Project;
 import com.college.campuscollab.entity.User;
+import com.college.campuscollab.service.ContributionAccessIndex;
 import com.college.campuscollab.service.ContributionRequestService;
+import com.college.campuscollab.service.ContributionRequestService.RequestOutcome;
+import com.college.campuscollab.service.ContributionRequestService.RequestResult;
 import com.college.campuscollab.service.ProjectService;
 import com.college.campuscollab.service.UserService;
 import com.college.campuscollab.service.ActivityLogService;
@@ -28,15 +31,18 @@ public class ContributionController {
     private final ProjectService projectService;
     private final UserService userService;
     private final ActivityLogService activityLogService;
+    private final ContributionAccessIndex accessIndex;
 
     public ContributionController(ContributionRequestService contributionService,
             ProjectService projectService,
             UserService userService,
-            ActivityLogService activityLogService) {
+            ActivityLogService activityLogService,
+            ContributionAccessIndex accessIndex) {
         this.contributionService = contributionService;
         this.projectService = projectService;
         this.userService = userService;
         this.activityLogService = activityLogService;
+        this.accessIndex = accessIndex;
     }
 
     /**
@@ -57,26 +63,43 @@ public class ContributionController {
             // Use efficient getProjectEntityById instead of getAllProjects() + filter
             Project project = projectService.getProjectEntityById(projectId);
 
-            ContributionRequest request = contributionService.requestContribution(
+            RequestResult result = contributionService.requestContribution(
                     project, user, requestDTO.getMessage());
-
-            // Log contribution request activity
-            activityLogService.logEntityActivity(
-                    user,
-                    "CONTRIBUTION_REQUEST_CREATED",
-                    "COLLABORATION",
-                    "User " + user.getFullName() + " requested collaboration for project '" + project.getProjectName()
-                            + "'",
-                    "ContributionRequest",
-                    request.getId());
+            ContributionRequest request = result.request();
+
+            // Log contribution request activity; an existing pending/approved request is returned as is
+            if (result.outcome() == RequestOutcome.CREATED) {
+                activityLogService.logEntityActivity(
+                        user,
+                        "CONTRIBUTION_REQUEST_CREATED",
+                        "COLLABORATION",
+                        "User " + user.getFullName() + " requested collaboration for project '"
+                                + project.getProjectName() + "'",
+                        "ContributionRequest",
+                        request.getId());
+            } else if (result.outcome() == RequestOutcome.REOPENED) {
+                activityLogService.logEntityActivity(
+                        user,
+                        "CONTRIBUTION_REQUEST_REOPENED",
+                        "COLLABORATION",
+                        "User " + user.getFullName() + " requested collaboration again for project '"
+                                + project.getProjectName() + "'",
+                        "ContributionRequest",
+                        request.getId());
+            }
 
             ContributionResponse contributionResponse = contributionService.convertToResponse(request);
 
             response.put("success", true);
-            response.put("message", "Contribution request submitted successfully");
+            response.put("message", switch (result.outcome()) {
+                case CREATED -> "Contribution request submitted successfully";
+                case REOPENED -> "Contribution request submitted again";
+                case UNCHANGED -> "You have already requested to contribute to this project";
+            });
             response.put("data", contributionResponse);
 
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            HttpStatus status = result.outcome() == RequestOutcome.CREATED ? HttpStatus.CREATED : HttpStatus.OK;
+            return ResponseEntity.status(status).body(response);
 
         } catch (RuntimeException e) {
             response.put("success", false);
@@ -233,10 +256,9 @@ public class ContributionController {
 
         try {
             User loggedInUser = userService.getUserByEmail(userDetails.getUsername());
-            Project project = projectService.getProjectEntityById(projectId);
 
-            // Check if user is the owner
-            if (project.getOwner().getId().equals(loggedInUser.getId())) {
+            // Owner and request status come from the in-memory access index
+            if (accessIndex.ownerOf(projectId).equals(loggedInUser.getId())) {
                 response.put("success", true);
                 response.put("status", "owner");
                 response.put("hasAccess", true);
@@ -245,11 +267,7 @@ public class ContributionController {
             }
 
             // Check if user has a contribution request
-            ContributionRequest request = contributionService.getRequestsForProject(project)
-                    .stream()
-                    .filter(r -> r.getRequestedBy().getId().equals(loggedInUser.getId()))
-                    .findFirst()
-                    .orElse(null);
+            ContributionAccessIndex.Grant request = accessIndex.grantFor(projectId, loggedInUser.getId());
 
             if (request == null) {
                 response.put("success", true);
@@ -260,13 +278,13 @@ public class ContributionController {
             }
 
             // Check request status
-            String status = request.getStatus().name().toLowerCase();
+            String status = request.status().name().toLowerCase();
             boolean hasAccess = "approved".equals(status);
 
             response.put("success", true);
             response.put("status", status);
             response.put("hasAccess", hasAccess);
-            response.put("requestId", request.getId());
+            response.put("requestId", request.requestId());
 
             if (hasAccess) {
                 response.put("message", "Download access granted");
@@ -1,5 +1,6 @@
 package com.college.campuscollab.controller;
 
+import com.college.campuscollab.metrics.MetricsRegistry;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
@@ -16,6 +17,12 @@ import java.nio.file.Paths;
 public class FileController {
 
     private final String uploadDir = "uploads/projects/";
+    private final MetricsRegistry.Counter servedBytes;
+
+    public FileController(MetricsRegistry metricsRegistry) {
+        this.servedBytes = metricsRegistry.counter("files_served_bytes_total",
+                "Bytes of project screenshots served").labels();
+    }
 
     /**
      * Serve uploaded project screenshots
@@ -48,6 +55,7 @@ public class FileController {
                         break;
                 }
 
+                servedBytes.increment(resource.contentLength());
                 return ResponseEntity.ok()
                         .contentType(MediaType.parseMediaType(contentType))
                         .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
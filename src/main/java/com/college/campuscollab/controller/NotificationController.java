@@ -0,0 +1,40 @@
+package com.college.campuscollab.controller;
+
+import com.college.campuscollab.entity.Role;
+import com.college.campuscollab.entity.User;
+import com.college.campuscollab.service.NotificationHub;
+import com.college.campuscollab.service.UserService;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Push channel for collaboration and moderation notifications.
+ *
+ * The stream is authenticated like every other endpoint, so browsers need a
+ * fetch-based EventSource that can send the Authorization header. Reconnects
+ * send Last-Event-ID to receive what was missed.
+ */
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    private final NotificationHub notificationHub;
+    private final UserService userService;
+
+    public NotificationController(NotificationHub notificationHub, UserService userService) {
+        this.notificationHub = notificationHub;
+        this.userService = userService;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user = userService.getUserByEmail(userDetails.getUsername());
+        return notificationHub.subscribe(user.getId(), user.getRole() == Role.ADMIN, lastEventId);
+    }
+}
@@ -1,15 +1,22 @@
 package com.college.campuscollab.controller;
 
+import com.college.campuscollab.dto.ProblemActivityDTO;
+import com.college.campuscollab.dto.ProblemHistoryDayDTO;
+import com.college.campuscollab.dto.ProblemLeaderboardEntryDTO;
+import com.college.campuscollab.dto.ProblemPlatformStatDTO;
 import com.college.campuscollab.entity.ProblemSubmission;
 import com.college.campuscollab.entity.User;
 import com.college.campuscollab.service.ProblemSubmissionService;
 import com.college.campuscollab.service.UserService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
-import java.util.Map;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/problems")
@@ -39,21 +46,98 @@ public class ProblemSubmissionController {
 
     //  Weekly leaderboard
     @GetMapping("/leaderboard/weekly")
-    public Map<String, Integer> weeklyLeaderboard() {
+    public List<ProblemLeaderboardEntryDTO> weeklyLeaderboard(
+            @RequestParam(defaultValue = "50") int limit) {
 
         LocalDate end = LocalDate.now();
         LocalDate start = end.minusDays(7);
 
-        return service.getLeaderboard(start, end);
+        return service.getLeaderboard(start, end, clampLimit(limit));
     }
 
     //  Monthly leaderboard
     @GetMapping("/leaderboard/monthly")
-    public Map<String, Integer> monthlyLeaderboard() {
+    public List<ProblemLeaderboardEntryDTO> monthlyLeaderboard(
+            @RequestParam(defaultValue = "50") int limit) {
 
         LocalDate end = LocalDate.now();
         LocalDate start = end.minusDays(30);
 
-        return service.getLeaderboard(start, end);
+        return service.getLeaderboard(start, end, clampLimit(limit));
+    }
+
+    //  Leaderboard for any date range (inclusive)
+    @GetMapping("/leaderboard")
+    public List<ProblemLeaderboardEntryDTO> rangeLeaderboard(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        checkRange(from, to);
+
+        return service.getLeaderboard(from, to, clampLimit(limit));
+    }
+
+    //  Own solved problems per day
+    @GetMapping("/me/history")
+    public List<ProblemHistoryDayDTO> myHistory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        checkRange(from, to);
+        User user =
+                userService.getUserByEmail(userDetails.getUsername());
+
+        return service.getHistory(user, from, to);
+    }
+
+    //  Own solved problems per platform
+    @GetMapping("/me/platforms")
+    public List<ProblemPlatformStatDTO> myPlatforms(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        checkRange(from, to);
+        User user =
+                userService.getUserByEmail(userDetails.getUsername());
+
+        return service.getPlatformBreakdown(user, from, to);
+    }
+
+    //  Solved problems per platform across all users
+    @GetMapping("/platforms")
+    public List<ProblemPlatformStatDTO> platforms(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        checkRange(from, to);
+
+        return service.getPlatformBreakdown(null, from, to);
+    }
+
+    //  Own streaks and daily points for the last 31 days
+    @GetMapping("/me/activity")
+    public ProblemActivityDTO myActivity(
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        User user =
+                userService.getUserByEmail(userDetails.getUsername());
+
+        return service.getActivity(user);
+    }
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'to' must not be before 'from'");
+        }
+        if (from.plusYears(5).isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Date range must not exceed 5 years");
+        }
+    }
+
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, 500));
     }
 }
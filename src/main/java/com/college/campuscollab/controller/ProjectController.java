@@ -1,19 +1,25 @@
 package com.college.campuscollab.controller;
 
 import com.college.campuscollab.dto.ProjectResponse;
+import com.college.campuscollab.dto.ProjectSummaryDTO;
 import com.college.campuscollab.dto.ProjectUploadRequest;
-import com.college.campuscollab.entity.Project;
 import com.college.campuscollab.entity.User;
+import com.college.campuscollab.service.ProjectFeedCache;
 import com.college.campuscollab.service.ProjectService;
 import com.college.campuscollab.service.UserService;
 import com.college.campuscollab.service.ActivityLogService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.HashMap;
@@ -27,13 +33,19 @@ public class ProjectController {
     private final ProjectService projectService;
     private final UserService userService;
     private final ActivityLogService activityLogService;
+    private final ProjectFeedCache projectFeedCache;
+    private final ProjectSummaryJsonWriter summaryWriter;
 
     public ProjectController(ProjectService projectService,
             UserService userService,
-            ActivityLogService activityLogService) {
+            ActivityLogService activityLogService,
+            ProjectFeedCache projectFeedCache,
+            ObjectMapper objectMapper) {
         this.projectService = projectService;
         this.userService = userService;
         this.activityLogService = activityLogService;
+        this.projectFeedCache = projectFeedCache;
+        this.summaryWriter = new ProjectSummaryJsonWriter(objectMapper.getFactory());
     }
 
     /**
@@ -106,11 +118,11 @@ public class ProjectController {
      * Get all projects with full details (for browsing)
      * Returns projects ordered by creation date (newest first)
      * Authentication: Optional (public endpoint)
+     * Served from ProjectFeedCache; If-None-Match with the current ETag gets 304
      */
     @GetMapping("/browse")
-    public ResponseEntity<List<ProjectResponse>> browseProjects() {
-        List<ProjectResponse> projects = projectService.getAllProjectsAsResponse();
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<byte[]> browseProjects(WebRequest request) {
+        return feedResponse(projectFeedCache.getBrowse(), request);
     }
 
     /**
@@ -118,9 +130,8 @@ public class ProjectController {
      * Authentication: Optional (public endpoint)
      */
     @GetMapping("/approved")
-    public ResponseEntity<List<ProjectResponse>> getApprovedProjects() {
-        List<ProjectResponse> projects = projectService.getApprovedProjects();
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<byte[]> getApprovedProjects(WebRequest request) {
+        return feedResponse(projectFeedCache.getApproved(), request);
     }
 
     /**
@@ -134,14 +145,14 @@ public class ProjectController {
      * Authentication: Optional (public endpoint)
      */
     @GetMapping("/search")
-    public ResponseEntity<List<ProjectResponse>> searchProjects(
+    public ResponseEntity<byte[]> searchProjects(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String course,
-            @RequestParam(required = false) String techStack) {
+            @RequestParam(required = false) String techStack,
+            WebRequest request) {
 
-        List<ProjectResponse> projects = projectService.searchProjects(search, status, course, techStack);
-        return ResponseEntity.ok(projects);
+        return feedResponse(projectFeedCache.search(search, status, course, techStack), request);
     }
 
     /**
@@ -211,22 +222,57 @@ public class ProjectController {
     // Legacy endpoints (keeping for backward compatibility)
 
     /**
+     * Paged project summaries, newest first; total count in X-Total-Count
      * @deprecated Use /browse or /approved instead
      */
+    @Deprecated
     @GetMapping
-    public List<Project> getAllProjects() {
-        return projectService.getAllProjects();
+    public ResponseEntity<StreamingResponseBody> getAllProjects(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+
+        return streamSummaries(projectService.getProjectSummaries(Math.max(0, page), clampSize(size)));
     }
 
     /**
-     * Get projects uploaded by the authenticated user
+     * Get projects uploaded by the authenticated user, paged like /api/projects
      * Authentication: Required
      */
     @GetMapping("/my")
-    public List<Project> getMyProjects(
+    public ResponseEntity<StreamingResponseBody> getMyProjects(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         User user = userService.getUserByEmail(userDetails.getUsername());
-        return projectService.getProjectsByOwner(user);
+        return streamSummaries(
+                projectService.getProjectSummariesByOwner(user.getId(), Math.max(0, page), clampSize(size)));
+    }
+
+    // no-cache: browsers keep the body but revalidate with If-None-Match every time
+    private static ResponseEntity<byte[]> feedResponse(ProjectFeedCache.Feed feed, WebRequest request) {
+        if (request.checkNotModified(feed.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(feed.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(feed.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(feed.body());
+    }
+
+    // The page is fully loaded before the response starts; only serialization is streamed
+    private ResponseEntity<StreamingResponseBody> streamSummaries(Page<ProjectSummaryDTO> projects) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Total-Count", String.valueOf(projects.getTotalElements()))
+                .body(out -> summaryWriter.write(projects, out));
+    }
+
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, 200));
     }
 }
@@ -0,0 +1,82 @@
+package com.college.campuscollab.controller;
+
+import com.college.campuscollab.dto.ProjectSummaryDTO;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes project summaries as a JSON array with the streaming generator:
+ * no reflection or intermediate tree, and rows go out as they are written.
+ *
+ * Keeps the field names the legacy entity response used; owner is reduced
+ * to id, fullName and email.
+ */
+final class ProjectSummaryJsonWriter {
+
+    private final JsonFactory jsonFactory;
+
+    ProjectSummaryJsonWriter(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    void write(Iterable<ProjectSummaryDTO> projects, OutputStream out) throws IOException {
+        try (JsonGenerator json = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            json.writeStartArray();
+            for (ProjectSummaryDTO project : projects) {
+                writeProject(json, project);
+            }
+            json.writeEndArray();
+        }
+    }
+
+    private static void writeProject(JsonGenerator json, ProjectSummaryDTO project) throws IOException {
+        json.writeStartObject();
+        writeNumber(json, "id", project.getId());
+        json.writeStringField("projectName", project.getProjectName());
+        json.writeStringField("teamLeaderName", project.getTeamLeaderName());
+        json.writeStringField("course", project.getCourse());
+        writeNumber(json, "semester", project.getSemester());
+        json.writeStringField("techStack", project.getTechStack());
+        json.writeStringField("description", project.getDescription());
+        json.writeStringField("liveLink", project.getLiveLink());
+        json.writeStringField("codeLink", project.getCodeLink());
+        json.writeStringField("status", project.getStatus());
+
+        json.writeArrayFieldStart("screenshots");
+        for (String screenshot : project.getScreenshots()) {
+            json.writeString(screenshot);
+        }
+        json.writeEndArray();
+
+        if (project.getOwnerId() != null) {
+            json.writeObjectFieldStart("owner");
+            json.writeNumberField("id", project.getOwnerId());
+            json.writeStringField("fullName", project.getOwnerName());
+            json.writeStringField("email", project.getOwnerEmail());
+            json.writeEndObject();
+        } else {
+            json.writeNullField("owner");
+        }
+
+        writeNumber(json, "viewCount", project.getViewCount());
+        writeNumber(json, "likeCount", project.getLikeCount());
+        LocalDateTime createdAt = project.getCreatedAt();
+        json.writeStringField("createdAt",
+                createdAt != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(createdAt) : null);
+        json.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator json, String field, Number value) throws IOException {
+        if (value == null) {
+            json.writeNullField(field);
+        } else {
+            json.writeNumberField(field, value.longValue());
+        }
+    }
+}
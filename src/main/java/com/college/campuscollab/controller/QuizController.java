@@ -1,5 +1,8 @@
 package com.college.campuscollab.controller;
 
+import com.college.campuscollab.dto.QuizQuestionStatDTO;
+import com.college.campuscollab.dto.QuizRankDTO;
+import com.college.campuscollab.dto.QuizStatsDTO;
 import com.college.campuscollab.entity.Quiz;
 import com.college.campuscollab.entity.User;
 import com.college.campuscollab.service.QuizService;
@@ -8,6 +11,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -29,7 +33,8 @@ public class QuizController {
         return quizService.createQuiz(quiz);
     }
 
-    //  Attempt quiz
+    //  Attempt quiz: returns the score; the submission is saved asynchronously
+    //  and can be lost if the server crashes right after responding
     @PostMapping("/{quizId}/submit")
     public int submitQuiz(@PathVariable Long quizId,
                           @RequestBody Map<Long, String> answers,
@@ -38,9 +43,36 @@ public class QuizController {
         User user = userService.getUserByEmail(userDetails.getUsername());
         return quizService.submitQuiz(quizId, answers, user);
     }
+    //  Top players by total score, best first
     @GetMapping("/leaderboard")
-    public Map<String, Integer> quizLeaderboard() {
-        return quizService.getQuizLeaderboard();
+    public Map<String, Long> quizLeaderboard(@RequestParam(defaultValue = "100") int limit) {
+        return quizService.getQuizLeaderboard(Math.max(1, Math.min(limit, 1000)));
+    }
+
+    //  Current user's rank and total score
+    @GetMapping("/leaderboard/me")
+    public QuizRankDTO myQuizRank(@AuthenticationPrincipal UserDetails userDetails) {
+        User user = userService.getUserByEmail(userDetails.getUsername());
+        return quizService.getMyQuizRank(user);
+    }
+
+    //  Best score per student for one quiz, best first
+    @GetMapping("/{quizId}/leaderboard")
+    public Map<String, Long> quizResultsLeaderboard(@PathVariable Long quizId,
+                                                    @RequestParam(defaultValue = "100") int limit) {
+        return quizService.getQuizResultsLeaderboard(quizId, Math.max(1, Math.min(limit, 1000)));
+    }
+
+    //  Attempts, average, score histogram and percentiles for one quiz
+    @GetMapping("/{quizId}/stats")
+    public QuizStatsDTO quizStats(@PathVariable Long quizId) {
+        return quizService.getQuizStats(quizId);
+    }
+
+    //  Correct-answer rate per question for one quiz
+    @GetMapping("/{quizId}/questions/stats")
+    public List<QuizQuestionStatDTO> questionStats(@PathVariable Long quizId) {
+        return quizService.getQuestionStats(quizId);
     }
 
 }
@@ -4,10 +4,9 @@ import com.college.campuscollab.dto.PendingRequestDTO;
 import com.college.campuscollab.dto.UpdateProfileRequest;
 import com.college.campuscollab.dto.UserProfileDTO;
 import com.college.campuscollab.entity.ContributionRequest;
-import com.college.campuscollab.entity.RequestStatus;
 import com.college.campuscollab.entity.User;
 import com.college.campuscollab.repository.ContributionRequestRepository;
-import com.college.campuscollab.repository.ProjectRepository;
+import com.college.campuscollab.service.ContributionRequestService;
 import com.college.campuscollab.service.UserService;
 import com.college.campuscollab.service.ActivityLogService;
 import org.springframework.http.ResponseEntity;
@@ -16,7 +15,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/users")
@@ -24,18 +23,18 @@ import java.util.stream.Collectors;
 public class UserController {
 
     private final UserService userService;
-    private final ProjectRepository projectRepository;
     private final ContributionRequestRepository contributionRequestRepository;
     private final ActivityLogService activityLogService;
+    private final ContributionRequestService contributionRequestService;
 
     public UserController(UserService userService,
-            ProjectRepository projectRepository,
             ContributionRequestRepository contributionRequestRepository,
-            ActivityLogService activityLogService) {
+            ActivityLogService activityLogService,
+            ContributionRequestService contributionRequestService) {
         this.userService = userService;
-        this.projectRepository = projectRepository;
         this.contributionRequestRepository = contributionRequestRepository;
         this.activityLogService = activityLogService;
+        this.contributionRequestService = contributionRequestService;
     }
 
     /**
@@ -117,19 +116,28 @@ public class UserController {
      * Get pending collaboration requests for user's projects
      */
     @GetMapping("/pending-requests")
-    public ResponseEntity<List<PendingRequestDTO>> getPendingRequests() {
+    public ResponseEntity<List<PendingRequestDTO>> getPendingRequests(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
         String email = getCurrentUserEmail();
         User user = userService.getUserByEmail(email);
 
-        // Get all projects owned by user
-        List<PendingRequestDTO> pendingRequests = projectRepository.findByOwner(user)
-                .stream()
-                .flatMap(project -> contributionRequestRepository.findByProject(project).stream())
-                .filter(req -> req.getStatus() == RequestStatus.PENDING)
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // One join query across all of the user's projects; the total comes from the badge counter
+        List<PendingRequestDTO> pendingRequests = contributionRequestService.getPendingInbox(
+                user.getId(), Math.max(0, page), Math.max(1, Math.min(size, 200)));
 
-        return ResponseEntity.ok(pendingRequests);
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(contributionRequestService.countPendingInbox(user.getId())))
+                .body(pendingRequests);
+    }
+
+    /**
+     * Number of pending collaboration requests for user's projects (inbox badge)
+     */
+    @GetMapping("/pending-requests/count")
+    public ResponseEntity<Map<String, Long>> getPendingRequestCount() {
+        User user = userService.getUserByEmail(getCurrentUserEmail());
+        return ResponseEntity.ok(Map.of("count", contributionRequestService.countPendingInbox(user.getId())));
     }
 
     /**
@@ -149,8 +157,7 @@ public class UserController {
                 return ResponseEntity.status(403).body("You can only approve requests for your own projects");
             }
 
-            request.setStatus(RequestStatus.APPROVED);
-            contributionRequestRepository.save(request);
+            request = contributionRequestService.approveRequest(requestId);
 
             // Log approval activity
             activityLogService.logEntityActivity(
@@ -186,8 +193,7 @@ public class UserController {
                 return ResponseEntity.status(403).body("You can only reject requests for your own projects");
             }
 
-            request.setStatus(RequestStatus.REJECTED);
-            contributionRequestRepository.save(request);
+            request = contributionRequestService.rejectRequest(requestId);
 
             // Log rejection activity
             activityLogService.logEntityActivity(
@@ -239,19 +245,4 @@ public class UserController {
         }
         return authentication.getName();
     }
-
-    private PendingRequestDTO convertToDTO(ContributionRequest request) {
-        PendingRequestDTO dto = new PendingRequestDTO();
-        dto.setId(request.getId());
-        dto.setRequesterName(request.getRequestedBy().getFullName());
-        dto.setRequesterEmail(request.getRequestedBy().getEmail());
-        dto.setRequesterCourse(request.getRequestedBy().getCourse());
-        dto.setRequesterSemester(request.getRequestedBy().getSemester());
-        dto.setProjectName(request.getProject().getProjectName());
-        dto.setProjectId(request.getProject().getId());
-        dto.setMessage(request.getMessage());
-        dto.setRequestedAt(request.getRequestedAt());
-        dto.setStatus(request.getStatus().name());
-        return dto;
-    }
 }
@@ -0,0 +1,23 @@
+package com.college.campuscollab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated activity log feed.
+ * Pass nextCursor back as ?cursor= to fetch the following page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityLogCursorPage {
+
+    private List<ActivityLogDTO> content;
+    private String nextCursor; // null on the last page
+    private boolean hasNext;
+    private int size;
+    private Long totalElements; // only when requested and a maintained counter exists
+}
@@ -1,6 +1,7 @@
 package com.college.campuscollab.dto;
 
 import com.college.campuscollab.entity.ActivityLog;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -30,32 +31,50 @@ public class ActivityLogDTO {
     private String timestamp; // Formatted as string for frontend
     private String timeAgo; // Human-readable time ago
 
-    // Convert Entity to DTO
-    public static ActivityLogDTO fromEntity(ActivityLog log) {
-        ActivityLogDTO dto = new ActivityLogDTO();
-        dto.setId(log.getId());
-        dto.setUserEmail(log.getUserEmail());
-        dto.setUserFullName(log.getUserFullName());
-        dto.setUserRole(log.getUserRole() != null ? log.getUserRole().name() : null);
-        dto.setActionType(log.getActionType());
-        dto.setActionCategory(log.getActionCategory());
-        dto.setDescription(log.getDescription());
-        dto.setEntityType(log.getEntityType());
-        dto.setEntityId(log.getEntityId());
-        dto.setOldValue(log.getOldValue());
-        dto.setNewValue(log.getNewValue());
-        dto.setIpAddress(log.getIpAddress());
-        dto.setStatus(log.getStatus());
-        dto.setErrorMessage(log.getErrorMessage());
+    // Exact timestamp for cursor paging; the frontend only sees the formatted string
+    @JsonIgnore
+    private LocalDateTime sortTimestamp;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * Used by the JPQL constructor expressions in ActivityLogRepository.
+     * Takes only the denormalized columns, so log reads never hydrate ActivityLog
+     * entities or touch the lazy user association.
+     */
+    public ActivityLogDTO(Long id, String userEmail, String userFullName, ActivityLog.UserRole userRole,
+            String actionType, String actionCategory, String description,
+            String entityType, Long entityId, String oldValue, String newValue,
+            String ipAddress, String status, String errorMessage, LocalDateTime timestamp) {
+        this.id = id;
+        this.userEmail = userEmail;
+        this.userFullName = userFullName;
+        this.userRole = userRole != null ? userRole.name() : null;
+        this.actionType = actionType;
+        this.actionCategory = actionCategory;
+        this.description = description;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.ipAddress = ipAddress;
+        this.status = status;
+        this.errorMessage = errorMessage;
+        this.sortTimestamp = timestamp;
 
         // Format timestamp
-        if (log.getTimestamp() != null) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            dto.setTimestamp(log.getTimestamp().format(formatter));
-            dto.setTimeAgo(calculateTimeAgo(log.getTimestamp()));
+        if (timestamp != null) {
+            this.timestamp = timestamp.format(TIMESTAMP_FORMAT);
+            this.timeAgo = calculateTimeAgo(timestamp);
         }
+    }
 
-        return dto;
+    // Convert Entity to DTO
+    public static ActivityLogDTO fromEntity(ActivityLog log) {
+        return new ActivityLogDTO(log.getId(), log.getUserEmail(), log.getUserFullName(), log.getUserRole(),
+                log.getActionType(), log.getActionCategory(), log.getDescription(),
+                log.getEntityType(), log.getEntityId(), log.getOldValue(), log.getNewValue(),
+                log.getIpAddress(), log.getStatus(), log.getErrorMessage(), log.getTimestamp());
     }
 
     // Calculate human-readable time ago
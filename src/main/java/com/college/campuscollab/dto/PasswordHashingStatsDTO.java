@@ -0,0 +1,20 @@
+package com.college.campuscollab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PasswordHashingStatsDTO {
+    private int threads;
+    private int queueCapacity;
+    private int queued;            // waiting right now
+    private long completed;
+    private long rejected;
+    private double avgHashMillis;
+    private double maxHashMillis;
+    private double avgQueueWaitMillis;
+    private double maxQueueWaitMillis;
+}
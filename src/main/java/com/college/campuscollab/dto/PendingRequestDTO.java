@@ -1,5 +1,6 @@
 package com.college.campuscollab.dto;
 
+import com.college.campuscollab.entity.RequestStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -21,4 +22,12 @@ public class PendingRequestDTO {
     private String message;
     private LocalDateTime requestedAt;
     private String status;
+
+    // Used by the owner inbox JPQL constructor expression in ContributionRequestRepository
+    public PendingRequestDTO(Long id, String requesterName, String requesterEmail, String requesterCourse,
+            Integer requesterSemester, String projectName, Long projectId, String message,
+            LocalDateTime requestedAt, RequestStatus status) {
+        this(id, requesterName, requesterEmail, requesterCourse, requesterSemester, projectName, projectId,
+                message, requestedAt, status != null ? status.name() : null);
+    }
 }
@@ -0,0 +1,20 @@
+package com.college.campuscollab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProblemActivityDTO {
+    private Long userId;
+    private int currentStreak;     // consecutive days with a submission, ending today or yesterday
+    private int longestStreak;
+    private long weeklyPoints;
+    private long monthlyPoints;
+    private Map<String, Long> solvedByDifficulty;   // last 31 days
+    private int[] dailyPoints;     // oldest first, the last element is today
+}
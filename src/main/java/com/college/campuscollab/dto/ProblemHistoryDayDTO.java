@@ -0,0 +1,16 @@
+package com.college.campuscollab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProblemHistoryDayDTO {
+    private LocalDate date;
+    private long solved;
+    private long points;
+}
@@ -0,0 +1,25 @@
+package com.college.campuscollab.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class ProblemLeaderboardEntryDTO {
+    private int rank;
+    private Long userId;
+    private String email;
+    private String fullName;
+    private long totalPoints;
+    private long problemsSolved;
+
+    // Rank, email and name are filled in by ProblemSubmissionServiceImpl
+    public ProblemLeaderboardEntryDTO(Long userId, String email, String fullName, Long totalPoints,
+            Long problemsSolved) {
+        this.userId = userId;
+        this.email = email;
+        this.fullName = fullName;
+        this.totalPoints = totalPoints != null ? totalPoints : 0;
+        this.problemsSolved = problemsSolved != null ? problemsSolved : 0;
+    }
+}
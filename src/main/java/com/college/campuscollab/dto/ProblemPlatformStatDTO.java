@@ -0,0 +1,17 @@
+package com.college.campuscollab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProblemPlatformStatDTO {
+    private String platform;
+    private long solved;
+    private long points;
+    private long easy;
+    private long medium;
+    private long hard;
+}
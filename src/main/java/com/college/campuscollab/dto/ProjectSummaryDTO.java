@@ -0,0 +1,59 @@
+package com.college.campuscollab.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Flat project row for the legacy list endpoints (/api/projects and /my).
+ * Built by a JPQL constructor expression so no entity, owner or lazy
+ * collection is loaded; screenshots are filled in with one query per page.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectSummaryDTO {
+    private Long id;
+    private String projectName;
+    private String teamLeaderName;
+    private String course;
+    private Integer semester;
+    private String techStack;
+    private String description;
+    private String liveLink;
+    private String codeLink;
+    private String status;
+    private Integer viewCount;
+    private Integer likeCount;
+    private LocalDateTime createdAt;
+    private Long ownerId;
+    private String ownerName;
+    private String ownerEmail;
+    private List<String> screenshots = List.of();
+
+    // Used by the JPQL constructor expressions in ProjectRepository
+    public ProjectSummaryDTO(Long id, String projectName, String teamLeaderName, String course,
+            Integer semester, String techStack, String description, String liveLink, String codeLink,
+            String status, Integer viewCount, Integer likeCount, LocalDateTime createdAt,
+            Long ownerId, String ownerName, String ownerEmail) {
+        this.id = id;
+        this.projectName = projectName;
+        this.teamLeaderName = teamLeaderName;
+        this.course = course;
+        this.semester = semester;
+        this.techStack = techStack;
+        this.description = description;
+        this.liveLink = liveLink;
+        this.codeLink = codeLink;
+        this.status = status;
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+        this.createdAt = createdAt;
+        this.ownerId = ownerId;
+        this.ownerName = ownerName;
+        this.ownerEmail = ownerEmail;
+    }
+}
@@ -0,0 +1,15 @@
+package com.college.campuscollab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuizQuestionStatDTO {
+    private Long questionId;
+    private long attempts;
+    private long correct;
+    private double correctRate;   // 0.0 - 1.0
+}
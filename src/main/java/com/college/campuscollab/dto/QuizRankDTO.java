@@ -0,0 +1,15 @@
+package com.college.campuscollab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuizRankDTO {
+    private int rank;          // 1-based; 0 when the user has no submissions
+    private String email;
+    private long totalScore;
+    private int totalPlayers;
+}
@@ -0,0 +1,19 @@
+package com.college.campuscollab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class QuizStatsDTO {
+    private Long quizId;
+    private long attempts;
+    private double averageScore;
+    private int questionCount;
+    private long[] histogram;              // histogram[s] = attempts that scored s
+    private Map<String, Integer> percentiles; // "p50", "p75", "p90", "p99"
+}
@@ -0,0 +1,32 @@
+package com.college.campuscollab.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SecondLevelCacheStatsDTO {
+    private long hits;
+    private long misses;
+    private long puts;
+    private double hitRatio;
+    private long naturalIdHits;
+    private long naturalIdMisses;
+    private double naturalIdHitRatio;
+    private List<RegionStats> regions;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class RegionStats {
+        private String region;
+        private long hits;
+        private long misses;
+        private long puts;
+        private double hitRatio;
+    }
+}
@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
  * Captures who did what, when, and what changed
  */
 @Entity
-@Table(name = "activity_logs")
+@Table(name = "activity_logs", indexes = {
+        @Index(name = "idx_activity_logs_timestamp", columnList = "timestamp"),
+        @Index(name = "idx_activity_logs_user_email_timestamp", columnList = "user_email, timestamp"),
+        @Index(name = "idx_activity_logs_category_timestamp", columnList = "action_category, timestamp")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -7,7 +7,14 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "contribution_requests")
+@Table(name = "contribution_requests", uniqueConstraints = {
+        // One request per user and project; re-requesting reuses the row
+        @UniqueConstraint(name = "uk_contribution_requests_project_requester", columnNames = { "project_id", "requested_by" })
+}, indexes = {
+        @Index(name = "idx_contribution_requests_status", columnList = "status"),
+        @Index(name = "idx_contribution_requests_requested_by_status", columnList = "requested_by, status"),
+        @Index(name = "idx_contribution_requests_project_status", columnList = "project_id, status")
+})
 @Getter
 @Setter
 public class ContributionRequest {
@@ -6,6 +6,11 @@ import lombok.Setter;
 
 import java.time.LocalDate;
 
+/**
+ * Duplicate of ProblemSubmission; db/migration/V2 moves the rows into
+ * problem_submission. Kept only until V2 has run everywhere, then deleted
+ * together with ProblemRecordRepository and the table.
+ */
 @Entity
 @Table(name = "problem_records")
 @Getter
@@ -7,6 +7,10 @@ import lombok.Setter;
 import java.time.LocalDate;
 
 @Entity
+@Table(indexes = {
+        // Covers the leaderboard range scan without touching the base rows
+        @Index(name = "idx_problem_submission_date_user_points", columnList = "submission_date, user_id, points")
+})
 @Getter
 @Setter
 public class ProblemSubmission {
@@ -2,13 +2,20 @@ package com.college.campuscollab.entity;
 
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_projects_owner", columnList = "owner_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 public class Project {
@@ -37,6 +44,7 @@ public class Project {
 
     // Screenshots (store file paths or URLs)
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<String> screenshots;
 
     @ManyToOne
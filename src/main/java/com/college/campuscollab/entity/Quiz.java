@@ -2,12 +2,16 @@ package com.college.campuscollab.entity;
 
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Setter;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Getter
 @Setter
 public class Quiz {
@@ -20,6 +24,7 @@ public class Quiz {
     private String subject;        // Java, DBMS, OS
     private LocalDate createdDate;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(mappedBy = "quiz", cascade = CascadeType.ALL , fetch = FetchType.EAGER )
     private List<QuizQuestion> questions;
 
@@ -0,0 +1,32 @@
+package com.college.campuscollab.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Periodic snapshot of the in-memory quiz leaderboard (total score per user)
+@Entity
+@Table(name = "quiz_leaderboard", indexes = {
+        @Index(name = "idx_quiz_leaderboard_total_score", columnList = "total_score")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class QuizLeaderboardEntry {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "user_email")
+    private String userEmail;
+
+    @Column(name = "total_score")
+    private long totalScore;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
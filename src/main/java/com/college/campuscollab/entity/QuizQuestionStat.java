@@ -0,0 +1,30 @@
+package com.college.campuscollab.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Per-question correctness counters, snapshotted from QuizAnalyticsService
+@Entity
+@Table(name = "quiz_question_stats", indexes = {
+        @Index(name = "idx_quiz_question_stats_quiz", columnList = "quiz_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class QuizQuestionStat {
+
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    @Column(name = "quiz_id")
+    private Long quizId;
+
+    // Attempts of the quiz since this question started being tracked
+    private long attempts;
+
+    @Column(name = "correct_count")
+    private long correctCount;
+}
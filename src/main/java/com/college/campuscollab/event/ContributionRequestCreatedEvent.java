@@ -0,0 +1,33 @@
+package com.college.campuscollab.event;
+
+import com.college.campuscollab.entity.ContributionRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published after a student sends a new (PENDING) collaboration request
+@Getter
+@AllArgsConstructor
+public class ContributionRequestCreatedEvent implements DomainEvent {
+    private final Long requestId;
+    private final Long projectId;
+    private final Long requesterId;
+    private final Long ownerId;
+
+    public static ContributionRequestCreatedEvent of(ContributionRequest request) {
+        return new ContributionRequestCreatedEvent(
+                request.getId(),
+                request.getProject().getId(),
+                request.getRequestedBy().getId(),
+                request.getProject().getOwner().getId());
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "ContributionRequest";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return requestId;
+    }
+}
@@ -0,0 +1,39 @@
+package com.college.campuscollab.event;
+
+import com.college.campuscollab.entity.ContributionRequest;
+import com.college.campuscollab.entity.RequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published for every request removed by project/user deletion or orphan cleanup.
+// projectId and ownerId are null for orphaned requests.
+@Getter
+@AllArgsConstructor
+public class ContributionRequestDeletedEvent implements DomainEvent {
+    private final Long requestId;
+    private final Long projectId;
+    private final Long requesterId;
+    private final Long ownerId;
+    private final RequestStatus status;
+
+    public static ContributionRequestDeletedEvent of(ContributionRequest request) {
+        return new ContributionRequestDeletedEvent(
+                request.getId(),
+                request.getProject() != null ? request.getProject().getId() : null,
+                request.getRequestedBy() != null ? request.getRequestedBy().getId() : null,
+                request.getProject() != null && request.getProject().getOwner() != null
+                        ? request.getProject().getOwner().getId()
+                        : null,
+                request.getStatus());
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "ContributionRequest";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return requestId;
+    }
+}
@@ -0,0 +1,39 @@
+package com.college.campuscollab.event;
+
+import com.college.campuscollab.entity.ContributionRequest;
+import com.college.campuscollab.entity.RequestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published when an owner or admin approves or rejects a collaboration request
+@Getter
+@AllArgsConstructor
+public class ContributionRequestStatusChangedEvent implements DomainEvent {
+    private final Long requestId;
+    private final Long projectId;
+    private final Long requesterId;
+    private final Long ownerId;
+    private final RequestStatus oldStatus;
+    private final RequestStatus newStatus;
+
+    // Build from a request whose status has already been set to the new value
+    public static ContributionRequestStatusChangedEvent of(ContributionRequest request, RequestStatus oldStatus) {
+        return new ContributionRequestStatusChangedEvent(
+                request.getId(),
+                request.getProject().getId(),
+                request.getRequestedBy().getId(),
+                request.getProject().getOwner().getId(),
+                oldStatus,
+                request.getStatus());
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "ContributionRequest";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return requestId;
+    }
+}
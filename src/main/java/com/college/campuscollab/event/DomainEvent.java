@@ -0,0 +1,16 @@
+package com.college.campuscollab.event;
+
+/**
+ * A state change published through {@link DomainEventBus}.
+ *
+ * Events for the same aggregate (type + id) are delivered to listeners in the
+ * order they were published. Events must only carry ids and values, never
+ * entities, because they are delivered on another thread after the
+ * transaction has closed.
+ */
+public interface DomainEvent {
+
+    String getAggregateType();
+
+    Long getAggregateId();
+}
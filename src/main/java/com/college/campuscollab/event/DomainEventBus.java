@@ -0,0 +1,104 @@
+package com.college.campuscollab.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process domain event bus.
+ *
+ * publish() inside a transaction only buffers the event (an in-memory outbox
+ * bound to the transaction); the buffer is dispatched after commit and dropped
+ * on rollback. Outside a transaction the event is dispatched right away.
+ *
+ * Dispatch hands each event to one of N single-thread executors chosen by its
+ * aggregate, so events for the same aggregate reach listeners in publish order
+ * while different aggregates are handled in parallel, off the request thread.
+ * Listeners subscribe with a plain @EventListener.
+ */
+@Component
+@Slf4j
+public class DomainEventBus {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ExecutorService[] stripes;
+
+    public DomainEventBus(ApplicationEventPublisher applicationEventPublisher,
+            @Value("${events.dispatch-threads:4}") int dispatchThreads) {
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.stripes = new ExecutorService[Math.max(1, dispatchThreads)];
+        for (int i = 0; i < stripes.length; i++) {
+            String name = "domain-events-" + i;
+            stripes[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public void publish(DomainEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(event);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<DomainEvent> pending = (List<DomainEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<DomainEvent> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffer.forEach(DomainEventBus.this::dispatch);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DomainEventBus.this);
+                }
+            });
+            pending = buffer;
+        }
+        pending.add(event);
+    }
+
+    private void dispatch(DomainEvent event) {
+        int hash = Objects.hash(event.getAggregateType(), event.getAggregateId());
+        stripes[Math.floorMod(hash, stripes.length)].execute(() -> {
+            try {
+                applicationEventPublisher.publishEvent(event);
+            } catch (RuntimeException e) {
+                // One failing listener must not stall the stripe
+                log.error("Listener failed for {} ({} {})", event.getClass().getSimpleName(),
+                        event.getAggregateType(), event.getAggregateId(), e);
+            }
+        });
+    }
+
+    // Let queued events reach their listeners before the context closes
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+        for (ExecutorService stripe : stripes) {
+            if (!stripe.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Domain event stripe did not drain in time");
+                stripe.shutdownNow();
+            }
+        }
+    }
+}
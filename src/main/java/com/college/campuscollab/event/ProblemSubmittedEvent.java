@@ -0,0 +1,28 @@
+package com.college.campuscollab.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// Published after a solved problem is saved; keyed by user so a user's submissions are applied in order
+@Getter
+@AllArgsConstructor
+public class ProblemSubmittedEvent implements DomainEvent {
+    private final Long submissionId;
+    private final Long userId;
+    private final LocalDate submissionDate;
+    private final String platform;
+    private final String difficulty;
+    private final int points;
+
+    @Override
+    public String getAggregateType() {
+        return "User";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return userId;
+    }
+}
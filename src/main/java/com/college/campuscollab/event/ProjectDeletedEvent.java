@@ -0,0 +1,22 @@
+package com.college.campuscollab.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published after a project is deleted, either directly or with its owner
+@Getter
+@AllArgsConstructor
+public class ProjectDeletedEvent implements DomainEvent {
+    private final Long projectId;
+    private final Long ownerId;
+
+    @Override
+    public String getAggregateType() {
+        return "Project";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return projectId;
+    }
+}
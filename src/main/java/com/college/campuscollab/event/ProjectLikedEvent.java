@@ -0,0 +1,24 @@
+package com.college.campuscollab.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published when a user likes or unlikes a project; likeCount is the new total
+@Getter
+@AllArgsConstructor
+public class ProjectLikedEvent implements DomainEvent {
+    private final Long projectId;
+    private final Long userId;
+    private final boolean liked;
+    private final int likeCount;
+
+    @Override
+    public String getAggregateType() {
+        return "Project";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return projectId;
+    }
+}
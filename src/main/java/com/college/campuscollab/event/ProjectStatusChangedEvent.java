@@ -0,0 +1,24 @@
+package com.college.campuscollab.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published when an admin approves or rejects a project (status is PENDING, APPROVED or REJECTED)
+@Getter
+@AllArgsConstructor
+public class ProjectStatusChangedEvent implements DomainEvent {
+    private final Long projectId;
+    private final Long ownerId;
+    private final String oldStatus;
+    private final String newStatus;
+
+    @Override
+    public String getAggregateType() {
+        return "Project";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return projectId;
+    }
+}
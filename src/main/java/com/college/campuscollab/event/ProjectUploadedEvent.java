@@ -0,0 +1,22 @@
+package com.college.campuscollab.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published after a new project is saved (status PENDING)
+@Getter
+@AllArgsConstructor
+public class ProjectUploadedEvent implements DomainEvent {
+    private final Long projectId;
+    private final Long ownerId;
+
+    @Override
+    public String getAggregateType() {
+        return "Project";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return projectId;
+    }
+}
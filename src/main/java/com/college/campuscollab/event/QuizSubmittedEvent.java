@@ -0,0 +1,26 @@
+package com.college.campuscollab.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published for every scored quiz attempt, once QuizSubmissionWriter has committed its row.
+// correctMask has bit i set when question i of the quiz's answer key was answered correctly.
+@Getter
+@AllArgsConstructor
+public class QuizSubmittedEvent implements DomainEvent {
+    private final Long quizId;
+    private final Long userId;
+    private final String userEmail;
+    private final int score;
+    private final long[] correctMask;
+
+    @Override
+    public String getAggregateType() {
+        return "Quiz";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return quizId;
+    }
+}
@@ -0,0 +1,24 @@
+package com.college.campuscollab.event;
+
+import com.college.campuscollab.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published after an admin deletes a user; their projects and requests get their own events
+@Getter
+@AllArgsConstructor
+public class UserDeletedEvent implements DomainEvent {
+    private final Long userId;
+    private final String email;
+    private final Role role;
+
+    @Override
+    public String getAggregateType() {
+        return "User";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return userId;
+    }
+}
@@ -0,0 +1,23 @@
+package com.college.campuscollab.event;
+
+import com.college.campuscollab.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published after a student, senior or admin account is created
+@Getter
+@AllArgsConstructor
+public class UserRegisteredEvent implements DomainEvent {
+    private final Long userId;
+    private final Role role;
+
+    @Override
+    public String getAggregateType() {
+        return "User";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return userId;
+    }
+}
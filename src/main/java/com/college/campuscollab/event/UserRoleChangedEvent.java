@@ -0,0 +1,24 @@
+package com.college.campuscollab.event;
+
+import com.college.campuscollab.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published when a profile update moves a user between STUDENT and SENIOR
+@Getter
+@AllArgsConstructor
+public class UserRoleChangedEvent implements DomainEvent {
+    private final Long userId;
+    private final Role oldRole;
+    private final Role newRole;
+
+    @Override
+    public String getAggregateType() {
+        return "User";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return userId;
+    }
+}
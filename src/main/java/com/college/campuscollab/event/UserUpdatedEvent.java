@@ -0,0 +1,23 @@
+package com.college.campuscollab.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Published after an admin edits a user's details (email, roll number, course, status...)
+@Getter
+@AllArgsConstructor
+public class UserUpdatedEvent implements DomainEvent {
+    private final Long userId;
+    private final String oldEmail;
+    private final String newEmail;
+
+    @Override
+    public String getAggregateType() {
+        return "User";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return userId;
+    }
+}
@@ -0,0 +1,12 @@
+package com.college.campuscollab.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// Thrown when the password hashing pool is saturated; clients should retry later
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class PasswordHashingOverloadedException extends RuntimeException {
+    public PasswordHashingOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,121 @@
+package com.college.campuscollab.metrics;
+
+import com.college.campuscollab.entity.User;
+import com.college.campuscollab.security.OffloadingPasswordEncoder;
+import com.college.campuscollab.service.NotificationHub;
+import com.college.campuscollab.service.QuizSubmissionWriter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.function.ToIntFunction;
+
+/**
+ * Gauges sampled at scrape time: Hikari pool saturation, the in-process
+ * queues (quiz submission writer, password hashing pool), open SSE
+ * connections, and second-level cache hits and misses per region. The
+ * User##NaturalId region is the email lookup behind every authenticated
+ * request.
+ */
+@Component
+@Slf4j
+public class InfrastructureMetrics {
+
+    private final MetricsRegistry metricsRegistry;
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final QuizSubmissionWriter quizSubmissionWriter;
+    private final OffloadingPasswordEncoder passwordEncoder;
+    private final NotificationHub notificationHub;
+
+    public InfrastructureMetrics(MetricsRegistry metricsRegistry,
+            DataSource dataSource,
+            EntityManagerFactory entityManagerFactory,
+            QuizSubmissionWriter quizSubmissionWriter,
+            OffloadingPasswordEncoder passwordEncoder,
+            NotificationHub notificationHub) {
+        this.metricsRegistry = metricsRegistry;
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        this.quizSubmissionWriter = quizSubmissionWriter;
+        this.passwordEncoder = passwordEncoder;
+        this.notificationHub = notificationHub;
+    }
+
+    @PostConstruct
+    public void register() {
+        registerHikari();
+
+        metricsRegistry.gauge("quiz_submission_queue_depth", "Quiz submissions waiting for the batch writer",
+                quizSubmissionWriter::queuedCount);
+        metricsRegistry.gauge("password_hashing_queue_depth", "Password hashes waiting for a pool thread",
+                () -> passwordEncoder.getStats().getQueued());
+        metricsRegistry.functionCounter("password_hashing_rejected_total", "Hash requests refused with 429",
+                () -> passwordEncoder.getStats().getRejected());
+        metricsRegistry.gauge("notifications_sse_connections", "Open notification streams",
+                notificationHub::getConnectionCount);
+
+        registerSecondLevelCache();
+    }
+
+    private void registerHikari() {
+        HikariDataSource hikari;
+        try {
+            hikari = dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            hikari = null;
+        }
+        if (hikari == null) {
+            log.info("DataSource is not Hikari; connection pool metrics disabled");
+            return;
+        }
+        HikariDataSource pool = hikari;
+        metricsRegistry.gauge("hikaricp_connections_max", "Maximum pool size", pool::getMaximumPoolSize);
+        hikariGauge(pool, "hikaricp_connections_active", "Connections in use", HikariPoolMXBean::getActiveConnections);
+        hikariGauge(pool, "hikaricp_connections_idle", "Idle connections", HikariPoolMXBean::getIdleConnections);
+        hikariGauge(pool, "hikaricp_connections", "Open connections", HikariPoolMXBean::getTotalConnections);
+        hikariGauge(pool, "hikaricp_connections_pending", "Threads waiting for a connection",
+                HikariPoolMXBean::getThreadsAwaitingConnection);
+    }
+
+    // The pool MXBean only exists once the pool has started
+    private void hikariGauge(HikariDataSource pool, String name, String help, ToIntFunction<HikariPoolMXBean> value) {
+        metricsRegistry.gauge(name, help, () -> {
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            return bean != null ? value.applyAsInt(bean) : Double.NaN;
+        });
+    }
+
+    private void registerSecondLevelCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            // "Quiz.questions", "User##NaturalId"
+            String shortName = region.replace(User.class.getPackageName() + ".", "");
+            metricsRegistry.functionCounter("hibernate_second_level_cache_requests_total",
+                    "Second-level cache lookups by region and result",
+                    () -> regionStat(statistics, region, true), "region", shortName, "result", "hit");
+            metricsRegistry.functionCounter("hibernate_second_level_cache_requests_total",
+                    "Second-level cache lookups by region and result",
+                    () -> regionStat(statistics, region, false), "region", shortName, "result", "miss");
+        }
+    }
+
+    private static long regionStat(Statistics statistics, String region, boolean hits) {
+        CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+        if (stats == null) {
+            return 0;
+        }
+        return hits ? stats.getHitCount() : stats.getMissCount();
+    }
+}
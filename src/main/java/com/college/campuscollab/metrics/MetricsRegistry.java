@@ -0,0 +1,274 @@
+package com.college.campuscollab.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Counters, timers and gauges rendered in the Prometheus text format
+ * (version 0.0.4) by scrape().
+ *
+ * A metric is a family with fixed label names; children are created per
+ * label-value combination on first use, so callers should keep label values
+ * low-cardinality (route templates, not raw paths). Counter names end in
+ * _total. Histograms take their own bucket bounds; timers are histograms in
+ * seconds with fixed buckets from 5 ms to 10 s. Both get a name_max gauge.
+ * Recording is lock-free; scrape() reads whatever is current.
+ */
+@Component
+public class MetricsRegistry {
+
+    private static final double[] BUCKET_SECONDS = { 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10 };
+
+    private final Map<String, Family<?>> families = new ConcurrentSkipListMap<>();
+
+    public interface Counter {
+        void increment(long amount);
+
+        default void increment() {
+            increment(1);
+        }
+    }
+
+    public interface Timer {
+        void record(long nanos);
+    }
+
+    public interface Histogram {
+        void observe(double value);
+    }
+
+    public Family<Counter> counter(String name, String help, String... labelNames) {
+        return register(name, help, "counter", labelNames, CounterChild::new);
+    }
+
+    public Family<Timer> timer(String name, String help, String... labelNames) {
+        return register(name, help, "histogram", labelNames, () -> new HistogramChild(BUCKET_SECONDS));
+    }
+
+    // Bucket upper bounds in ascending order, in the unit being observed
+    public Family<Histogram> histogram(String name, String help, double[] buckets, String... labelNames) {
+        return register(name, help, "histogram", labelNames, () -> new HistogramChild(buckets));
+    }
+
+    // Sampled at scrape time; the supplier should be cheap and thread-safe
+    public void gauge(String name, String help, Supplier<? extends Number> value, String... labelValuePairs) {
+        function(name, help, "gauge", value, labelValuePairs);
+    }
+
+    // A cumulative count owned by someone else (e.g. Hibernate statistics)
+    public void functionCounter(String name, String help, Supplier<? extends Number> value, String... labelValuePairs) {
+        function(name, help, "counter", value, labelValuePairs);
+    }
+
+    public String scrape() {
+        StringBuilder out = new StringBuilder(16 * 1024);
+        for (Family<?> family : families.values()) {
+            family.write(out);
+        }
+        return out.toString();
+    }
+
+    private void function(String name, String help, String type, Supplier<? extends Number> value,
+            String... labelValuePairs) {
+        String[] labelNames = new String[labelValuePairs.length / 2];
+        String[] labelValues = new String[labelValuePairs.length / 2];
+        for (int i = 0; i < labelNames.length; i++) {
+            labelNames[i] = labelValuePairs[2 * i];
+            labelValues[i] = labelValuePairs[2 * i + 1];
+        }
+        Family<FunctionChild> family = register(name, help, type, labelNames, FunctionChild::new);
+        family.labels(labelValues).value = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Family<T> register(String name, String help, String type, String[] labelNames,
+            Supplier<? extends Child> factory) {
+        Family<?> family = families.computeIfAbsent(name, n -> new Family<>(n, help, type, labelNames, factory));
+        if (!family.type.equals(type) || !Arrays.equals(family.labelNames, labelNames)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered with other labels or type");
+        }
+        return (Family<T>) family;
+    }
+
+    public static final class Family<T> {
+        private final String name;
+        private final String help;
+        private final String type;
+        private final String[] labelNames;
+        private final Supplier<? extends Child> factory;
+        private final Map<List<String>, Child> children = new ConcurrentHashMap<>();
+
+        private Family(String name, String help, String type, String[] labelNames,
+                Supplier<? extends Child> factory) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.labelNames = labelNames;
+            this.factory = factory;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T labels(String... labelValues) {
+            if (labelValues.length != labelNames.length) {
+                throw new IllegalArgumentException(name + " expects labels " + Arrays.toString(labelNames));
+            }
+            List<String> key = Arrays.asList(labelValues);
+            Child child = children.get(key);
+            if (child == null) {
+                child = children.computeIfAbsent(new ArrayList<>(key), k -> factory.get());
+            }
+            return (T) child;
+        }
+
+        private void write(StringBuilder out) {
+            if (children.isEmpty()) {
+                return;
+            }
+            out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            for (Map.Entry<List<String>, Child> child : children.entrySet()) {
+                child.getValue().write(out, name, labelsOf(child.getKey()));
+            }
+            if (type.equals("histogram")) {
+                out.append("# HELP ").append(name).append("_max ").append(help).append(" (max since start)\n");
+                out.append("# TYPE ").append(name).append("_max gauge\n");
+                for (Map.Entry<List<String>, Child> child : children.entrySet()) {
+                    ((HistogramChild) child.getValue()).writeMax(out, name, labelsOf(child.getKey()));
+                }
+            }
+        }
+
+        private String labelsOf(List<String> values) {
+            StringBuilder labels = new StringBuilder();
+            for (int i = 0; i < labelNames.length; i++) {
+                if (i > 0) {
+                    labels.append(',');
+                }
+                labels.append(labelNames[i]).append("=\"").append(escape(values.get(i))).append('"');
+            }
+            return labels.toString();
+        }
+    }
+
+    private interface Child {
+        void write(StringBuilder out, String name, String labels);
+    }
+
+    private static final class CounterChild implements Counter, Child {
+        private final LongAdder count = new LongAdder();
+
+        @Override
+        public void increment(long amount) {
+            count.add(amount);
+        }
+
+        @Override
+        public void write(StringBuilder out, String name, String labels) {
+            sample(out, name, labels, null, count.sum());
+        }
+    }
+
+    private static final class HistogramChild implements Timer, Histogram, Child {
+        private final double[] bounds;
+        private final LongAdder[] buckets;
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+        private final DoubleAccumulator max = new DoubleAccumulator(Math::max, 0);
+
+        HistogramChild(double[] bounds) {
+            this.bounds = bounds;
+            this.buckets = new LongAdder[bounds.length];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        @Override
+        public void record(long nanos) {
+            observe(nanos / 1e9);
+        }
+
+        @Override
+        public void observe(double value) {
+            for (int i = 0; i < bounds.length; i++) {
+                if (value <= bounds[i]) {
+                    buckets[i].increment();
+                    break;
+                }
+            }
+            count.increment();
+            sum.add(value);
+            max.accumulate(value);
+        }
+
+        @Override
+        public void write(StringBuilder out, String name, String labels) {
+            // Buckets are stored per interval and emitted cumulatively
+            long cumulative = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                cumulative += buckets[i].sum();
+                sample(out, name + "_bucket", labels, "le=\"" + bounds[i] + "\"", cumulative);
+            }
+            long total = count.sum();
+            sample(out, name + "_bucket", labels, "le=\"+Inf\"", Math.max(total, cumulative));
+            sample(out, name + "_count", labels, null, total);
+            sample(out, name + "_sum", labels, null, sum.sum());
+        }
+
+        void writeMax(StringBuilder out, String name, String labels) {
+            sample(out, name + "_max", labels, null, max.get());
+        }
+    }
+
+    private static final class FunctionChild implements Child {
+        private volatile Supplier<? extends Number> value = () -> Double.NaN;
+
+        @Override
+        public void write(StringBuilder out, String name, String labels) {
+            Number current;
+            try {
+                current = value.get();
+            } catch (RuntimeException e) {
+                current = Double.NaN;
+            }
+            sample(out, name, labels, null, current != null ? current.doubleValue() : Double.NaN);
+        }
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, String extraLabel, double value) {
+        out.append(name);
+        if (!labels.isEmpty() || extraLabel != null) {
+            out.append('{').append(labels);
+            if (extraLabel != null) {
+                out.append(labels.isEmpty() ? "" : ",").append(extraLabel);
+            }
+            out.append('}');
+        }
+        out.append(' ');
+        if (Double.isNaN(value)) {
+            out.append("NaN");
+        } else if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+        out.append('\n');
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,59 @@
+package com.college.campuscollab.metrics;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing and count of every Spring Data repository call, by repository,
+ * method and result (SUCCESS, ERROR, CANCELED), through the invocation
+ * listener hook Spring Data offers on each repository factory.
+ */
+@Configuration
+public class RepositoryMetricsConfig {
+
+    // Static and lazy: post-processors are created before ordinary beans such as the registry
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MetricsRegistry> metricsRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addInvocationListener(new RepositoryTimer(metricsRegistry)));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static final class RepositoryTimer implements RepositoryMethodInvocationListener {
+
+        private final ObjectProvider<MetricsRegistry> metricsRegistry;
+        private volatile MetricsRegistry.Family<MetricsRegistry.Timer> invocations;
+
+        RepositoryTimer(ObjectProvider<MetricsRegistry> metricsRegistry) {
+            this.metricsRegistry = metricsRegistry;
+        }
+
+        @Override
+        public void afterInvocation(RepositoryMethodInvocation invocation) {
+            MetricsRegistry.Family<MetricsRegistry.Timer> family = invocations;
+            if (family == null) {
+                invocations = family = metricsRegistry.getObject().timer("spring_data_repository_invocations_seconds",
+                        "Spring Data repository calls by repository, method and state",
+                        "repository", "method", "state");
+            }
+            family.labels(invocation.getRepositoryInterface().getSimpleName(),
+                    invocation.getMethod().getName(),
+                    invocation.getResult().getState().name())
+                    .record(invocation.getDuration(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.college.campuscollab.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements executed on the current thread while a scope is
+ * open. SqlStatementGuardConfig opens one per HTTP request; tests open their
+ * own through QueryCountAssert. Scopes nest, and a statement counts towards
+ * every open scope of the thread.
+ *
+ * Work handed to other threads (@Async activity logging, event listeners
+ * after commit, streamed response bodies) is not counted for the request.
+ */
+public final class SqlStatementCounter {
+
+    // Distinct shapes kept per scope; the rest are counted under OTHER_SHAPES
+    private static final int MAX_SHAPES = 100;
+    private static final String OTHER_SHAPES = "(other statements)";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public record Shape(String sql, int count, long nanos) {
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final Map<String, long[]> shapes = new HashMap<>();
+        private int statements;
+        private long nanos;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        // Most frequent shapes first
+        public List<Shape> topShapes(int limit) {
+            List<Shape> result = new ArrayList<>(shapes.size());
+            shapes.forEach((sql, stats) -> result.add(new Shape(sql, (int) stats[0], stats[1])));
+            result.sort((a, b) -> a.count() != b.count()
+                    ? Integer.compare(b.count(), a.count())
+                    : Long.compare(b.nanos(), a.nanos()));
+            return result.subList(0, Math.min(limit, result.size()));
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                CURRENT.set(parent);
+            }
+        }
+
+        private void record(String shape, long statementNanos) {
+            statements++;
+            nanos += statementNanos;
+            long[] stats = shapes.get(shape);
+            if (stats == null) {
+                stats = shapes.computeIfAbsent(shapes.size() < MAX_SHAPES ? shape : OTHER_SHAPES, s -> new long[2]);
+            }
+            stats[0]++;
+            stats[1] += statementNanos;
+        }
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void record(String sql, long nanos) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (; scope != null; scope = scope.parent) {
+            scope.record(shape, nanos);
+        }
+    }
+
+    // Literals and IN-list lengths removed so the same query always has the same shape
+    public static String shapeOf(String sql) {
+        if (sql == null) {
+            return "(unknown)";
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,134 @@
+package com.college.campuscollab.metrics;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL statements per HTTP request, by method and route template, as the
+ * http_server_requests_sql_statements histogram. Requests above
+ * sql.guard.max-statements-per-request are logged with their most frequent
+ * query shapes, which is what an N+1 looks like; single statements slower
+ * than sql.guard.slow-statement-ms are logged as they happen.
+ *
+ * Statements are seen through a proxy around the DataSource bean, so
+ * Hibernate and JdbcTemplate are both covered.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.guard.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementGuardConfig {
+
+    private static final double[] STATEMENT_BUCKETS = { 0, 1, 2, 3, 5, 10, 25, 50, 100, 250, 500, 1000 };
+
+    // Static and lazy: post-processors are created before ordinary beans such as the registry
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(Environment environment,
+            ObjectProvider<MetricsRegistry> metricsRegistry) {
+        long slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(
+                environment.getProperty("sql.guard.slow-statement-ms", Long.class, 500L));
+        return new BeanPostProcessor() {
+            private volatile MetricsRegistry.Family<MetricsRegistry.Counter> slowStatements;
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!(bean instanceof DataSource dataSource) || StatementCountingDataSource.isWrapped(bean)) {
+                    return bean;
+                }
+                return StatementCountingDataSource.wrap(dataSource, slowThresholdNanos, (shape, nanos) -> {
+                    MetricsRegistry.Family<MetricsRegistry.Counter> family = slowStatements;
+                    if (family == null) {
+                        slowStatements = family = metricsRegistry.getObject().counter("sql_slow_statements_total",
+                                "SQL statements slower than sql.guard.slow-statement-ms");
+                    }
+                    family.labels().increment();
+                });
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(MetricsRegistry metricsRegistry,
+            Environment environment) {
+        int maxStatements = environment.getProperty("sql.guard.max-statements-per-request", Integer.class, 25);
+        FilterRegistrationBean<SqlStatementFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementFilter(metricsRegistry, maxStatements));
+        // Just inside the request timer, so security's user lookup is counted too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        registration.setDispatcherTypes(DispatcherType.REQUEST);
+        return registration;
+    }
+
+    @Slf4j
+    static final class SqlStatementFilter extends OncePerRequestFilter {
+
+        private static final int LOGGED_SHAPES = 5;
+
+        private final MetricsRegistry.Family<MetricsRegistry.Histogram> statements;
+        private final int maxStatements;
+
+        SqlStatementFilter(MetricsRegistry metricsRegistry, int maxStatements) {
+            this.statements = metricsRegistry.histogram("http_server_requests_sql_statements",
+                    "SQL statements per HTTP request by method and route template", STATEMENT_BUCKETS,
+                    "method", "uri");
+            this.maxStatements = maxStatements;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            SqlStatementCounter.Scope scope = SqlStatementCounter.open();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                scope.close();
+                String uri = route(request, response);
+                statements.labels(request.getMethod(), uri).observe(scope.getStatements());
+                if (scope.getStatements() > maxStatements) {
+                    log.warn("{} {} ran {} SQL statements in {} ms (limit {}); top shapes: {}", request.getMethod(),
+                            uri, scope.getStatements(), TimeUnit.NANOSECONDS.toMillis(scope.getNanos()),
+                            maxStatements, describe(scope));
+                }
+            }
+        }
+
+        // Same values as the uri label of http_server_requests_seconds
+        private static String route(HttpServletRequest request, HttpServletResponse response) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                return pattern.toString();
+            }
+            int status = response.getStatus();
+            if (status == HttpServletResponse.SC_NOT_FOUND) {
+                return "NOT_FOUND";
+            }
+            return status >= 300 && status < 400 ? "REDIRECTION" : "UNKNOWN";
+        }
+
+        private static String describe(SqlStatementCounter.Scope scope) {
+            StringJoiner shapes = new StringJoiner(" | ");
+            for (SqlStatementCounter.Shape shape : scope.topShapes(LOGGED_SHAPES)) {
+                shapes.add(shape.count() + "x " + shape.sql());
+            }
+            return shapes.toString();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.college.campuscollab.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource proxy that times every statement execution and reports it to
+ * SqlStatementCounter. Statements slower than the threshold are logged with
+ * their shape, whether or not a request is being counted.
+ *
+ * Plain JDK proxies over the JDBC interfaces: unwrap() and isWrapperFor()
+ * go to the pool, so code looking for the HikariDataSource still finds it.
+ * The wrapped connections are Hikari's, so closing them returns them to the
+ * pool as before.
+ */
+@Slf4j
+final class StatementCountingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    interface SlowStatementListener {
+        void onSlowStatement(String shape, long nanos);
+    }
+
+    // Marks DataSources that are already wrapped
+    private interface Counting {
+    }
+
+    private StatementCountingDataSource() {
+    }
+
+    static DataSource wrap(DataSource target, long slowThresholdNanos, SlowStatementListener listener) {
+        return proxy(DataSource.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection
+                    ? wrapConnection(connection, slowThresholdNanos, listener)
+                    : result;
+        }, Counting.class);
+    }
+
+    static boolean isWrapped(Object dataSource) {
+        return dataSource instanceof Counting;
+    }
+
+    private static Connection wrapConnection(Connection target, long slowThresholdNanos,
+            SlowStatementListener listener) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement, sql, slowThresholdNanos, listener);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement, sql, slowThresholdNanos, listener);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement, null, slowThresholdNanos, listener);
+            }
+            return result;
+        });
+    }
+
+    private static <S extends Statement> S wrapStatement(Class<S> type, S target, String preparedSql,
+            long slowThresholdNanos, SlowStatementListener listener) {
+        return proxy(type, target, new InvocationHandler() {
+            // Plain statements carry their SQL in execute(sql) or addBatch(sql)
+            private String batchSql;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                String name = method.getName();
+                if (name.equals("addBatch") && args != null && args.length == 1 && batchSql == null) {
+                    batchSql = (String) args[0];
+                }
+                if (!EXECUTE_METHODS.contains(name)) {
+                    return StatementCountingDataSource.invoke(target, method, args);
+                }
+
+                String sql = preparedSql;
+                if (sql == null) {
+                    sql = args != null && args.length > 0 && args[0] instanceof String text ? text : batchSql;
+                }
+                long started = System.nanoTime();
+                try {
+                    return StatementCountingDataSource.invoke(target, method, args);
+                } finally {
+                    long nanos = System.nanoTime() - started;
+                    if (name.endsWith("Batch")) {
+                        batchSql = null;
+                    }
+                    SqlStatementCounter.record(sql, nanos);
+                    if (nanos > slowThresholdNanos) {
+                        String shape = SqlStatementCounter.shapeOf(sql);
+                        log.warn("Slow SQL statement ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(nanos), shape);
+                        listener.onSlowStatement(shape, nanos);
+                    }
+                }
+            }
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler, Class<?>... markers) {
+        InvocationHandler unwrapping = (proxy, method, args) -> switch (method.getName()) {
+            case "unwrap" -> ((Class<?>) args[0]).isInstance(proxy) && !((Class<?>) args[0]).isInstance(target)
+                    ? proxy
+                    : invoke(target, method, args);
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "StatementCounting[" + target + "]";
+            default -> handler.invoke(proxy, method, args);
+        };
+        Class<?>[] interfaces = new Class<?>[markers.length + 1];
+        interfaces[0] = type;
+        System.arraycopy(markers, 0, interfaces, 1, markers.length);
+        return type.cast(Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                interfaces, unwrapping));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.college.campuscollab.repository;
 
+import com.college.campuscollab.dto.ActivityLogDTO;
 import com.college.campuscollab.entity.ActivityLog;
 import com.college.campuscollab.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,28 +17,56 @@ import java.util.List;
 @Repository
 public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
 
+        // Projection straight into ActivityLogDTO: selects only the denormalized
+        // columns, so no entity, no dirty-checking snapshot and no user join
+        String LOG_DTO_SELECT = "SELECT new com.college.campuscollab.dto.ActivityLogDTO(" +
+                        "a.id, a.userEmail, a.userFullName, a.userRole, a.actionType, a.actionCategory, " +
+                        "a.description, a.entityType, a.entityId, a.oldValue, a.newValue, a.ipAddress, " +
+                        "a.status, a.errorMessage, a.timestamp) FROM ActivityLog a ";
+
+        String SEARCH_CONDITION = "(LOWER(a.userEmail) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "LOWER(a.userFullName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "LOWER(a.actionType) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "LOWER(a.description) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) ";
+
+        String AFTER_CURSOR = "a.timestamp <= :ts AND (a.timestamp < :ts OR a.id < :id) ";
+
+        String FEED_ORDER = "ORDER BY a.timestamp DESC, a.id DESC";
+
         // Find all logs ordered by timestamp descending (newest first)
-        Page<ActivityLog> findAllByOrderByTimestampDesc(Pageable pageable);
+        @Query(value = LOG_DTO_SELECT + "ORDER BY a.timestamp DESC",
+                        countQuery = "SELECT COUNT(a) FROM ActivityLog a")
+        Page<ActivityLogDTO> findAllByOrderByTimestampDesc(Pageable pageable);
 
         // Find logs by user
         Page<ActivityLog> findByUserOrderByTimestampDesc(User user, Pageable pageable);
 
         // Find logs by user email
-        Page<ActivityLog> findByUserEmailOrderByTimestampDesc(String userEmail, Pageable pageable);
+        @Query(value = LOG_DTO_SELECT + "WHERE a.userEmail = :userEmail ORDER BY a.timestamp DESC",
+                        countQuery = "SELECT COUNT(a) FROM ActivityLog a WHERE a.userEmail = :userEmail")
+        Page<ActivityLogDTO> findByUserEmailOrderByTimestampDesc(@Param("userEmail") String userEmail,
+                        Pageable pageable);
 
         // Find logs by action type
         Page<ActivityLog> findByActionTypeOrderByTimestampDesc(String actionType, Pageable pageable);
 
         // Find logs by action category
-        Page<ActivityLog> findByActionCategoryOrderByTimestampDesc(String actionCategory, Pageable pageable);
+        @Query(value = LOG_DTO_SELECT + "WHERE a.actionCategory = :actionCategory ORDER BY a.timestamp DESC",
+                        countQuery = "SELECT COUNT(a) FROM ActivityLog a WHERE a.actionCategory = :actionCategory")
+        Page<ActivityLogDTO> findByActionCategoryOrderByTimestampDesc(
+                        @Param("actionCategory") String actionCategory, Pageable pageable);
 
         // Find logs by entity type and ID
         List<ActivityLog> findByEntityTypeAndEntityIdOrderByTimestampDesc(String entityType, Long entityId);
 
         // Find logs within a date range
-        Page<ActivityLog> findByTimestampBetweenOrderByTimestampDesc(
-                        LocalDateTime startDate,
-                        LocalDateTime endDate,
+        @Query(value = LOG_DTO_SELECT + "WHERE a.timestamp BETWEEN :startDate AND :endDate " +
+                        "ORDER BY a.timestamp DESC",
+                        countQuery = "SELECT COUNT(a) FROM ActivityLog a " +
+                                        "WHERE a.timestamp BETWEEN :startDate AND :endDate")
+        Page<ActivityLogDTO> findByTimestampBetweenOrderByTimestampDesc(
+                        @Param("startDate") LocalDateTime startDate,
+                        @Param("endDate") LocalDateTime endDate,
                         Pageable pageable);
 
         // Find logs by user role
@@ -48,13 +78,39 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
         Page<ActivityLog> findByStatusOrderByTimestampDesc(String status, Pageable pageable);
 
         // Custom query to search logs
-        @Query("SELECT a FROM ActivityLog a WHERE " +
-                        "LOWER(a.userEmail) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-                        "LOWER(a.userFullName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-                        "LOWER(a.actionType) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-                        "LOWER(a.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-                        "ORDER BY a.timestamp DESC")
-        Page<ActivityLog> searchLogs(@Param("searchTerm") String searchTerm, Pageable pageable);
+        @Query(value = LOG_DTO_SELECT + "WHERE " + SEARCH_CONDITION + "ORDER BY a.timestamp DESC",
+                        countQuery = "SELECT COUNT(a) FROM ActivityLog a WHERE " + SEARCH_CONDITION)
+        Page<ActivityLogDTO> searchLogs(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+        // Keyset (cursor) feeds: newest first, continuing after (timestamp, id).
+        // Slice skips the COUNT query, and the timestamp range keeps deep pages on the index.
+        @Query(LOG_DTO_SELECT + "WHERE " + AFTER_CURSOR + FEED_ORDER)
+        Slice<ActivityLogDTO> findFeed(@Param("ts") LocalDateTime ts, @Param("id") Long id, Pageable pageable);
+
+        @Query(LOG_DTO_SELECT + "WHERE a.userEmail = :userEmail AND " + AFTER_CURSOR + FEED_ORDER)
+        Slice<ActivityLogDTO> findFeedByUserEmail(@Param("userEmail") String userEmail,
+                        @Param("ts") LocalDateTime ts, @Param("id") Long id, Pageable pageable);
+
+        @Query(LOG_DTO_SELECT + "WHERE a.actionCategory = :category AND " + AFTER_CURSOR + FEED_ORDER)
+        Slice<ActivityLogDTO> findFeedByCategory(@Param("category") String category,
+                        @Param("ts") LocalDateTime ts, @Param("id") Long id, Pageable pageable);
+
+        @Query(LOG_DTO_SELECT + "WHERE a.timestamp >= :startDate AND a.timestamp <= :endDate AND "
+                        + AFTER_CURSOR + FEED_ORDER)
+        Slice<ActivityLogDTO> findFeedByDateRange(@Param("startDate") LocalDateTime startDate,
+                        @Param("endDate") LocalDateTime endDate,
+                        @Param("ts") LocalDateTime ts, @Param("id") Long id, Pageable pageable);
+
+        @Query(LOG_DTO_SELECT + "WHERE " + SEARCH_CONDITION + "AND " + AFTER_CURSOR + FEED_ORDER)
+        Slice<ActivityLogDTO> searchFeed(@Param("searchTerm") String searchTerm,
+                        @Param("ts") LocalDateTime ts, @Param("id") Long id, Pageable pageable);
+
+        // Counter seeds for ActivityLogCounters
+        @Query("SELECT a.actionCategory, COUNT(a) FROM ActivityLog a GROUP BY a.actionCategory")
+        List<Object[]> countGroupedByCategory();
+
+        @Query("SELECT a.userEmail, COUNT(a) FROM ActivityLog a GROUP BY a.userEmail")
+        List<Object[]> countGroupedByUserEmail();
 
         // Get recent activity count for dashboard
         @Query("SELECT COUNT(a) FROM ActivityLog a WHERE a.timestamp >= :since")
@@ -1,10 +1,14 @@
 package com.college.campuscollab.repository;
 
+import com.college.campuscollab.dto.PendingRequestDTO;
 import com.college.campuscollab.entity.ContributionRequest;
 import com.college.campuscollab.entity.Project;
 import com.college.campuscollab.entity.RequestStatus;
 import com.college.campuscollab.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -17,6 +21,25 @@ public interface ContributionRequestRepository extends JpaRepository<Contributio
     // Find a specific request by project and user
     ContributionRequest findByProjectAndRequestedBy(Project project, User user);
 
+    // (id, status) of the request for a project and user; at most one row per uk_contribution_requests_project_requester
+    @Query("SELECT r.id, r.status FROM ContributionRequest r " +
+            "WHERE r.project.id = :projectId AND r.requestedBy.id = :userId")
+    List<Object[]> findIdAndStatusByProjectIdAndRequesterId(@Param("projectId") Long projectId,
+            @Param("userId") Long userId);
+
+    // Owner inbox: requests with the given status on any of the owner's projects, newest first.
+    // Uses idx_projects_owner to find the projects and idx_contribution_requests_project_status per project.
+    @Query("SELECT new com.college.campuscollab.dto.PendingRequestDTO(" +
+            "r.id, u.fullName, u.email, u.course, u.semester, p.projectName, p.id, r.message, r.requestedAt, r.status) " +
+            "FROM ContributionRequest r JOIN r.project p JOIN r.requestedBy u " +
+            "WHERE p.owner.id = :ownerId AND r.status = :status " +
+            "ORDER BY r.requestedAt DESC, r.id DESC")
+    List<PendingRequestDTO> findInboxByOwnerId(@Param("ownerId") Long ownerId,
+            @Param("status") RequestStatus status, Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM ContributionRequest r WHERE r.project.owner.id = :ownerId AND r.status = :status")
+    long countByOwnerIdAndStatus(@Param("ownerId") Long ownerId, @Param("status") RequestStatus status);
+
     // Count requests by status
     long countByStatus(RequestStatus status);
 
@@ -25,4 +48,14 @@ public interface ContributionRequestRepository extends JpaRepository<Contributio
 
     // Count requests by user and status (for leaderboard)
     long countByRequestedByAndStatus(User user, RequestStatus status);
+
+    // One row per requester: [userId, request count]
+    @Query("SELECT r.requestedBy.id, COUNT(r) FROM ContributionRequest r WHERE r.status = :status " +
+            "GROUP BY r.requestedBy.id")
+    List<Object[]> countByRequesterForStatus(@Param("status") RequestStatus status);
+
+    // One row per project owner: [ownerId, request count]
+    @Query("SELECT r.project.owner.id, COUNT(r) FROM ContributionRequest r WHERE r.status = :status " +
+            "GROUP BY r.project.owner.id")
+    List<Object[]> countByOwnerForStatus(@Param("status") RequestStatus status);
 }
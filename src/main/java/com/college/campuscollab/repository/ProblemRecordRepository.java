@@ -2,13 +2,42 @@ package com.college.campuscollab.repository;
 
 import com.college.campuscollab.entity.ProblemRecord;
 import com.college.campuscollab.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
 
+/**
+ * problem_records is merged into problem_submission by db/migration/V2; new
+ * code should use ProblemSubmissionRepository. The stats engine and the
+ * activity rollup still read whatever rows are left, so both keep counting
+ * them until V2 has run. After that, this repository, ProblemRecord and
+ * their callers are deleted and the table is dropped.
+ */
 public interface ProblemRecordRepository extends JpaRepository<ProblemRecord, Long> {
 
+    // Same shape as ProblemSubmissionRepository.findStatsRowsAfter, difficulty as the enum
+    @Query("SELECT r.id, r.user.id, r.solvedDate, r.difficulty, r.platform, r.points " +
+            "FROM ProblemRecord r WHERE r.id > :afterId AND r.user IS NOT NULL ORDER BY r.id")
+    List<Object[]> findStatsRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Same shape as ProblemSubmissionRepository.sumDailyBuckets, difficulty as the enum; missing points
+    // are derived from the difficulty as db/migration/V2 does
+    @Query("SELECT r.user.id, r.solvedDate, r.difficulty, SUM(COALESCE(r.points, CASE r.difficulty " +
+            "WHEN com.college.campuscollab.entity.Difficulty.EASY THEN 10 " +
+            "WHEN com.college.campuscollab.entity.Difficulty.MEDIUM THEN 20 " +
+            "WHEN com.college.campuscollab.entity.Difficulty.HARD THEN 30 ELSE 0 END)), COUNT(r) " +
+            "FROM ProblemRecord r WHERE r.user IS NOT NULL AND r.solvedDate >= :since " +
+            "GROUP BY r.user.id, r.solvedDate, r.difficulty")
+    List<Object[]> sumDailyBuckets(@Param("since") LocalDate since);
+
+    @Query("SELECT DISTINCT r.user.id, r.solvedDate FROM ProblemRecord r " +
+            "WHERE r.user IS NOT NULL AND r.solvedDate IS NOT NULL")
+    List<Object[]> findActiveDays();
+
     List<ProblemRecord> findByUser(User user);
 
     List<ProblemRecord> findBySolvedDate(LocalDate solvedDate);
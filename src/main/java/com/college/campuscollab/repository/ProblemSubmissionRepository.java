@@ -2,7 +2,10 @@ package com.college.campuscollab.repository;
 
 import com.college.campuscollab.entity.ProblemSubmission;
 import com.college.campuscollab.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -13,6 +16,27 @@ public interface ProblemSubmissionRepository
         List<ProblemSubmission> findBySubmissionDateBetween(
                         LocalDate start, LocalDate end);
 
+        // (id, user id, day, difficulty, platform, points) in id order, one keyset page at a time
+        @Query("SELECT ps.id, ps.user.id, ps.submissionDate, ps.difficulty, ps.platform, ps.points " +
+                        "FROM ProblemSubmission ps WHERE ps.id > :afterId ORDER BY ps.id")
+        List<Object[]> findStatsRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+        // (user id, day, difficulty, points, count) buckets since the given day, for the activity rollup
+        @Query("SELECT ps.user.id, ps.submissionDate, UPPER(ps.difficulty), SUM(ps.points), COUNT(ps) " +
+                        "FROM ProblemSubmission ps WHERE ps.submissionDate >= :since " +
+                        "GROUP BY ps.user.id, ps.submissionDate, UPPER(ps.difficulty)")
+        List<Object[]> sumDailyBuckets(@Param("since") LocalDate since);
+
+        // Distinct (user id, day) pairs in order, used to replay streaks
+        @Query("SELECT DISTINCT ps.user.id, ps.submissionDate FROM ProblemSubmission ps " +
+                        "ORDER BY ps.user.id, ps.submissionDate")
+        List<Object[]> findActiveDays();
+
+        // (id, problemLink) of a user's submissions, oldest first, for ProblemLinkIndex
+        @Query("SELECT ps.id, ps.problemLink FROM ProblemSubmission ps " +
+                        "WHERE ps.user.id = :userId ORDER BY ps.id")
+        List<Object[]> findLinksByUserId(@Param("userId") Long userId);
+
         List<ProblemSubmission> findByUser(User user);
 
         // Delete all problem submissions by a user
@@ -1,19 +1,54 @@
 package com.college.campuscollab.repository;
 
+import com.college.campuscollab.dto.ProjectSummaryDTO;
 import com.college.campuscollab.entity.Project;
 import com.college.campuscollab.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
         List<Project> findByOwner(User owner);
 
+        long countByOwner(User owner);
+
+        // One row per owner: [ownerId, project count, total likes]
+        @Query("SELECT p.owner.id, COUNT(p), COALESCE(SUM(p.likeCount), 0) FROM Project p GROUP BY p.owner.id")
+        List<Object[]> countProjectsAndLikesByOwner();
+
+        @Query("SELECT p.owner.id FROM Project p WHERE p.id = :projectId")
+        Optional<Long> findOwnerIdById(@Param("projectId") Long projectId);
+
         List<Project> findByStatus(String status);
 
+        // Legacy list endpoints: one row per project, owner joined, nothing lazy
+        @Query(value = "SELECT new com.college.campuscollab.dto.ProjectSummaryDTO(" +
+                        "p.id, p.projectName, p.teamLeaderName, p.course, p.semester, p.techStack, " +
+                        "p.description, p.liveLink, p.codeLink, p.status, p.viewCount, p.likeCount, p.createdAt, " +
+                        "o.id, o.fullName, o.email) " +
+                        "FROM Project p LEFT JOIN p.owner o ORDER BY p.createdAt DESC, p.id DESC",
+                        countQuery = "SELECT COUNT(p) FROM Project p")
+        Page<ProjectSummaryDTO> findSummaries(Pageable pageable);
+
+        @Query(value = "SELECT new com.college.campuscollab.dto.ProjectSummaryDTO(" +
+                        "p.id, p.projectName, p.teamLeaderName, p.course, p.semester, p.techStack, " +
+                        "p.description, p.liveLink, p.codeLink, p.status, p.viewCount, p.likeCount, p.createdAt, " +
+                        "o.id, o.fullName, o.email) " +
+                        "FROM Project p JOIN p.owner o WHERE o.id = :ownerId ORDER BY p.createdAt DESC, p.id DESC",
+                        countQuery = "SELECT COUNT(p) FROM Project p WHERE p.owner.id = :ownerId")
+        Page<ProjectSummaryDTO> findSummariesByOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
+
+        // Screenshots of a page of projects as (projectId, screenshot) rows
+        @Query("SELECT p.id, s FROM Project p JOIN p.screenshots s WHERE p.id IN :projectIds")
+        List<Object[]> findScreenshotsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
         // Find projects by status ordered by creation date (newest first)
         List<Project> findByStatusOrderByCreatedAtDesc(String status);
 
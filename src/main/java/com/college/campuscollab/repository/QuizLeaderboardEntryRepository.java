@@ -0,0 +1,9 @@
+package com.college.campuscollab.repository;
+
+import com.college.campuscollab.entity.QuizLeaderboardEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QuizLeaderboardEntryRepository extends JpaRepository<QuizLeaderboardEntry, Long> {
+}
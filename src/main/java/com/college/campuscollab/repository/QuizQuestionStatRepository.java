@@ -0,0 +1,9 @@
+package com.college.campuscollab.repository;
+
+import com.college.campuscollab.entity.QuizQuestionStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface QuizQuestionStatRepository extends JpaRepository<QuizQuestionStat, Long> {
+}
@@ -9,13 +9,29 @@ import java.util.List;
 
 public interface QuizSubmissionRepository
         extends JpaRepository<QuizSubmission, Long> {
+    // Total score per user: rows of (user id, email, total); seeds QuizLeaderboardService
     @Query("""
-                SELECT qs.user.email, SUM(qs.score)
+                SELECT u.id, u.email, SUM(qs.score)
+                FROM QuizSubmission qs JOIN qs.user u
+                GROUP BY u.id, u.email
+            """)
+    List<Object[]> sumScoresByUser();
+
+    // Score histogram per quiz: rows of (quiz id, score, attempts); seeds QuizAnalyticsService
+    @Query("""
+                SELECT qs.quiz.id, qs.score, COUNT(qs)
+                FROM QuizSubmission qs
+                GROUP BY qs.quiz.id, qs.score
+            """)
+    List<Object[]> countScoresByQuiz();
+
+    // Best score per quiz and user: rows of (quiz id, user id, best score)
+    @Query("""
+                SELECT qs.quiz.id, qs.user.id, MAX(qs.score)
                 FROM QuizSubmission qs
-                GROUP BY qs.user.email
-                ORDER BY SUM(qs.score) DESC
+                GROUP BY qs.quiz.id, qs.user.id
             """)
-    List<Object[]> getQuizLeaderboard();
+    List<Object[]> maxScoresByQuizAndUser();
 
     // Delete all quiz submissions by a user
     void deleteByUser(User user);
@@ -0,0 +1,11 @@
+package com.college.campuscollab.repository;
+
+import com.college.campuscollab.entity.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    // Natural-id lookup: answered from the second-level cache without SQL when warm
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,45 @@
+package com.college.campuscollab.repository;
+
+import com.college.campuscollab.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+
+import java.util.Optional;
+
+/**
+ * findByEmail through Hibernate's natural-id API instead of a JPQL query, so
+ * the email -> id resolution and the User itself come from the second-level
+ * cache. Runs in the caller's persistence context when there is one (the
+ * result is then managed), otherwise in a short-lived one without a
+ * transaction, which only touches the database on a cache miss.
+ */
+class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    UserRepositoryCustomImpl(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        EntityManager current = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        if (current != null) {
+            return load(current, email);
+        }
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return load(entityManager, email);
+        }
+    }
+
+    private static Optional<User> load(EntityManager entityManager, String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
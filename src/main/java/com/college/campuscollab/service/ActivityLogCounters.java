@@ -0,0 +1,147 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.event.UserDeletedEvent;
+import com.college.campuscollab.repository.ActivityLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory activity log totals (overall, per category, per user email) so the
+ * cursor feeds can report a total without running COUNT(*) on every page.
+ *
+ * Seeded from the database on first use and incremented as logs are written.
+ * Bulk deletes call invalidate(), which reseeds on the next read; deleting a
+ * user removes their logs, so UserDeletedEvent invalidates too. Like
+ * AdminStatsService, a scheduled reconcile recounts from the database and
+ * corrects any drift (e.g. a log written while the seed queries were running,
+ * or a logging transaction that rolled back after being counted).
+ */
+@Service
+@Slf4j
+public class ActivityLogCounters {
+
+    private final ActivityLogRepository activityLogRepository;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile boolean loaded = false;
+
+    private final AtomicLong total = new AtomicLong();
+    // Replaced as a whole on every seed, so readers never see a half-filled map
+    private volatile Map<String, LongAdder> byCategory = new ConcurrentHashMap<>();
+    private volatile Map<String, LongAdder> byUserEmail = new ConcurrentHashMap<>();
+
+    public ActivityLogCounters(ActivityLogRepository activityLogRepository) {
+        this.activityLogRepository = activityLogRepository;
+    }
+
+    // Called after a log row has been saved
+    public void recordLogged(String userEmail, String category) {
+        // Before seeding, the seed query will pick this row up instead; a row it
+        // just missed is put right by the next reconcile()
+        if (!loaded) {
+            return;
+        }
+        total.incrementAndGet();
+        if (category != null) {
+            byCategory.computeIfAbsent(category, k -> new LongAdder()).increment();
+        }
+        if (userEmail != null) {
+            byUserEmail.computeIfAbsent(userEmail, k -> new LongAdder()).increment();
+        }
+    }
+
+    public long getTotal() {
+        ensureLoaded();
+        return total.get();
+    }
+
+    public long getCategoryTotal(String category) {
+        ensureLoaded();
+        LongAdder count = byCategory.get(category);
+        return count != null ? count.sum() : 0;
+    }
+
+    public long getUserTotal(String userEmail) {
+        ensureLoaded();
+        LongAdder count = byUserEmail.get(userEmail);
+        return count != null ? count.sum() : 0;
+    }
+
+    // Drop all counters; the next read reseeds them from the database
+    public void invalidate() {
+        loaded = false;
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        invalidate();
+    }
+
+    // Recount from the database (2 GROUP BY queries); skipped until the first read has seeded
+    @Scheduled(fixedDelayString = "${activity-logs.counters.reconcile-interval-ms:300000}",
+            initialDelayString = "${activity-logs.counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!loaded) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (loaded) {
+                recount();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loadLock.lock();
+        try {
+            if (!loaded) {
+                recount();
+            }
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    // Caller holds loadLock
+    private void recount() {
+        Map<String, LongAdder> categories = new ConcurrentHashMap<>();
+        Map<String, LongAdder> userEmails = new ConcurrentHashMap<>();
+        long sum = 0;
+        for (Object[] row : activityLogRepository.countGroupedByCategory()) {
+            long count = (Long) row[1];
+            sum += count;
+            if (row[0] != null) {
+                categories.computeIfAbsent((String) row[0], k -> new LongAdder()).add(count);
+            }
+        }
+        for (Object[] row : activityLogRepository.countGroupedByUserEmail()) {
+            userEmails.computeIfAbsent((String) row[0], k -> new LongAdder()).add((Long) row[1]);
+        }
+
+        if (loaded && sum != total.get()) {
+            log.warn("Activity log counters drifted, correcting: total {} -> {}", total.get(), sum);
+        }
+        byCategory = categories;
+        byUserEmail = userEmails;
+        total.set(sum);
+        if (!loaded) {
+            loaded = true;
+            log.info("Activity log counters seeded: {} logs, {} categories, {} users",
+                    sum, categories.size(), userEmails.size());
+        }
+    }
+}
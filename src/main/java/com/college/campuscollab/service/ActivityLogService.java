@@ -1,5 +1,6 @@
 package com.college.campuscollab.service;
 
+import com.college.campuscollab.dto.ActivityLogCursorPage;
 import com.college.campuscollab.dto.ActivityLogDTO;
 import com.college.campuscollab.entity.User;
 import org.springframework.data.domain.Page;
@@ -42,6 +43,19 @@ public interface ActivityLogService {
         // Search logs
         Page<ActivityLogDTO> searchLogs(String searchTerm, Pageable pageable);
 
+        // Cursor feeds (keyset on timestamp + id, no COUNT query).
+        // includeTotal adds the total from the maintained counters.
+        ActivityLogCursorPage getLogFeed(String cursor, int size, boolean includeTotal);
+
+        ActivityLogCursorPage getLogFeedByUser(String userEmail, String cursor, int size, boolean includeTotal);
+
+        ActivityLogCursorPage getLogFeedByCategory(String category, String cursor, int size, boolean includeTotal);
+
+        ActivityLogCursorPage getLogFeedByDateRange(LocalDateTime startDate, LocalDateTime endDate,
+                        String cursor, int size);
+
+        ActivityLogCursorPage searchLogFeed(String searchTerm, String cursor, int size);
+
         // Get activity statistics
         Map<String, Object> getActivityStatistics(LocalDateTime since);
 
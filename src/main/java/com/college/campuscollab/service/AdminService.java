@@ -2,9 +2,12 @@ package com.college.campuscollab.service;
 
 import com.college.campuscollab.dto.*;
 import com.college.campuscollab.entity.*;
+import com.college.campuscollab.event.*;
 import com.college.campuscollab.repository.*;
+import com.college.campuscollab.security.OffloadingPasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +30,10 @@ public class AdminService {
     private final QuizSubmissionRepository quizSubmissionRepository;
     private final ProblemSubmissionRepository problemSubmissionRepository;
     private final ProblemRecordRepository problemRecordRepository;
+    private final AdminStatsService adminStatsService;
+    private final DomainEventBus eventBus;
+    private final PasswordEncoder passwordEncoder;
+    private final EntityCacheService entityCacheService;
 
     private User getCurrentAdmin() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -34,14 +41,21 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("Admin not found"));
     }
 
-    // Get Dashboard Statistics
+    // Get Dashboard Statistics (served from in-memory counters)
     public AdminStatsDTO getAdminStats() {
-        long totalStudents = userRepository.countByRole(Role.STUDENT);
-        long totalProjects = projectRepository.count();
-        long pendingRequests = contributionRequestRepository.countByStatus(RequestStatus.PENDING);
-        long activeCollaborations = contributionRequestRepository.countByStatus(RequestStatus.APPROVED);
+        return adminStatsService.getStats();
+    }
+
+    // Hash timings, queue wait and rejections of the password hashing pool (empty when hashing is not pooled)
+    public PasswordHashingStatsDTO getPasswordHashingStats() {
+        return passwordEncoder instanceof OffloadingPasswordEncoder offloading
+                ? offloading.getStats()
+                : new PasswordHashingStatsDTO();
+    }
 
-        return new AdminStatsDTO(totalStudents, totalProjects, pendingRequests, activeCollaborations);
+    // Second-level cache hits, misses and puts, overall and per region
+    public SecondLevelCacheStatsDTO getCacheStats() {
+        return entityCacheService.getStats();
     }
 
     // Get All Students
@@ -54,13 +68,23 @@ public class AdminService {
             students = userRepository.findByRole(Role.STUDENT);
         }
 
+        // Project counts for every owner in one grouped query instead of one query per student
+        java.util.Map<Long, Integer> projectCounts = new java.util.HashMap<>();
+        for (Object[] row : projectRepository.countProjectsAndLikesByOwner()) {
+            projectCounts.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+
         return students.stream()
-                .map(this::convertToStudentDTO)
+                .map(student -> convertToStudentDTO(student, projectCounts.getOrDefault(student.getId(), 0)))
                 .collect(Collectors.toList());
     }
 
     // Convert User to StudentDTO
     private StudentDTO convertToStudentDTO(User user) {
+        return convertToStudentDTO(user, (int) projectRepository.countByOwner(user));
+    }
+
+    private StudentDTO convertToStudentDTO(User user, int projectCount) {
         StudentDTO dto = new StudentDTO();
         dto.setId(user.getId());
         dto.setFullName(user.getFullName());
@@ -70,9 +94,7 @@ public class AdminService {
         dto.setSemester(user.getSemester());
         dto.setRole(user.getRole().name());
 
-        // Count projects by this user
-        List<Project> userProjects = projectRepository.findByOwner(user);
-        dto.setProjectCount(userProjects.size());
+        dto.setProjectCount(projectCount);
 
         // Account Status
         dto.setStatus(user.getAccountStatus() != null ? user.getAccountStatus().name().toLowerCase() : "active");
@@ -127,6 +149,8 @@ public class AdminService {
         String oldStatus = project.getStatus();
         project.setStatus("APPROVED");
         projectRepository.save(project);
+        eventBus.publish(new ProjectStatusChangedEvent(project.getId(), project.getOwner().getId(),
+                oldStatus, "APPROVED"));
 
         // Log activity
         User admin = getCurrentAdmin();
@@ -150,6 +174,8 @@ public class AdminService {
         String oldStatus = project.getStatus();
         project.setStatus("REJECTED");
         projectRepository.save(project);
+        eventBus.publish(new ProjectStatusChangedEvent(project.getId(), project.getOwner().getId(),
+                oldStatus, "REJECTED"));
 
         // Log activity
         User admin = getCurrentAdmin();
@@ -180,6 +206,7 @@ public class AdminService {
             System.out
                     .println("🗑️ Deleting " + projectRequests.size() + " contribution request(s) for this project...");
             contributionRequestRepository.deleteAll(projectRequests);
+            projectRequests.forEach(this::publishRequestDeleted);
         }
 
         // Step 2: Delete all likes for this project
@@ -189,6 +216,7 @@ public class AdminService {
         // Step 3: Finally delete the project
         System.out.println("🗑️ Deleting project from database...");
         projectRepository.deleteById(projectId);
+        eventBus.publish(new ProjectDeletedEvent(projectId, project.getOwner().getId()));
         System.out.println("✅ Project deleted successfully");
 
         // Log activity
@@ -211,6 +239,7 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("Student not found with ID: " + studentId));
 
         StringBuilder changes = new StringBuilder();
+        String oldEmail = student.getEmail();
 
         // Admin can update ALL fields including email and status
         if (updateRequest.getFullName() != null && !updateRequest.getFullName().equals(student.getFullName())) {
@@ -260,6 +289,9 @@ public class AdminService {
         }
 
         User updatedStudent = userRepository.save(student);
+        if (changes.length() > 0) {
+            eventBus.publish(new UserUpdatedEvent(studentId, oldEmail, updatedStudent.getEmail()));
+        }
 
         // Log activity if there were changes
         if (changes.length() > 0) {
@@ -312,6 +344,7 @@ public class AdminService {
             System.out.println(
                     "🗑️ Deleting " + requestsByStudent.size() + " contribution request(s) made by student...");
             contributionRequestRepository.deleteAll(requestsByStudent);
+            requestsByStudent.forEach(this::publishRequestDeleted);
         }
 
         // Step 7: Delete contribution requests made TO student's projects
@@ -322,6 +355,7 @@ public class AdminService {
                 System.out.println("🗑️ Deleting " + requestsToProject.size()
                         + " contribution request(s) for project: " + project.getProjectName());
                 contributionRequestRepository.deleteAll(requestsToProject);
+                requestsToProject.forEach(this::publishRequestDeleted);
             }
         }
 
@@ -329,6 +363,8 @@ public class AdminService {
         if (!studentProjects.isEmpty()) {
             System.out.println("🗑️ Deleting " + studentProjects.size() + " project(s) owned by student...");
             projectRepository.deleteAll(studentProjects);
+            studentProjects.forEach(project -> eventBus.publish(
+                    new ProjectDeletedEvent(project.getId(), studentId)));
         }
 
         // Step 9: Delete activity logs for this user
@@ -338,6 +374,7 @@ public class AdminService {
         // Step 10: Finally delete the student
         System.out.println("🗑️ Deleting student from database...");
         userRepository.deleteById(studentId);
+        eventBus.publish(new UserDeletedEvent(studentId, studentEmail, student.getRole()));
         System.out.println("✅ Student deleted successfully");
 
         // Log activity (after deleting student logs, log this final action)
@@ -360,8 +397,7 @@ public class AdminService {
         User student = userRepository.findById(studentId)
                 .orElseThrow(() -> new RuntimeException("Student not found with ID: " + studentId));
 
-        // Encode the new password
-        org.springframework.security.crypto.password.PasswordEncoder passwordEncoder = new org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder();
+        // Encode the new password (on the shared hashing pool; a saturated pool surfaces as 429)
         String encodedPassword = passwordEncoder.encode(newPassword);
 
         student.setPassword(encodedPassword);
@@ -413,8 +449,10 @@ public class AdminService {
         ContributionRequest request = contributionRequestRepository.findById(requestId)
                 .orElseThrow(() -> new RuntimeException("Request not found with ID: " + requestId));
 
+        RequestStatus oldStatus = request.getStatus();
         request.setStatus(RequestStatus.APPROVED);
         contributionRequestRepository.save(request);
+        eventBus.publish(ContributionRequestStatusChangedEvent.of(request, oldStatus));
 
         // Log activity
         User admin = getCurrentAdmin();
@@ -434,8 +472,10 @@ public class AdminService {
         ContributionRequest request = contributionRequestRepository.findById(requestId)
                 .orElseThrow(() -> new RuntimeException("Request not found with ID: " + requestId));
 
+        RequestStatus oldStatus = request.getStatus();
         request.setStatus(RequestStatus.REJECTED);
         contributionRequestRepository.save(request);
+        eventBus.publish(ContributionRequestStatusChangedEvent.of(request, oldStatus));
 
         // Log activity
         User admin = getCurrentAdmin();
@@ -449,6 +489,10 @@ public class AdminService {
                 requestId);
     }
 
+    private void publishRequestDeleted(ContributionRequest request) {
+        eventBus.publish(ContributionRequestDeletedEvent.of(request));
+    }
+
     // Cleanup Orphaned Requests (requests whose projects have been deleted)
     @Transactional
     public int cleanupOrphanedRequests() {
@@ -464,6 +508,7 @@ public class AdminService {
         if (count > 0) {
             System.out.println("🧹 Cleaning up " + count + " orphaned requests...");
             contributionRequestRepository.deleteAll(orphanedRequests);
+            orphanedRequests.forEach(this::publishRequestDeleted);
             System.out.println("✅ Cleanup complete!");
         } else {
             System.out.println("✅ No orphaned requests found");
@@ -626,20 +671,23 @@ public class AdminService {
     public List<java.util.Map<String, Object>> getLeaderboard(int limit) {
         List<User> allStudents = userRepository.findByRole(Role.STUDENT);
 
+        // Two grouped queries for all students instead of three queries per student
+        java.util.Map<Long, long[]> projectTotals = new java.util.HashMap<>();
+        for (Object[] row : projectRepository.countProjectsAndLikesByOwner()) {
+            projectTotals.put((Long) row[0],
+                    new long[] { ((Number) row[1]).longValue(), ((Number) row[2]).longValue() });
+        }
+        java.util.Map<Long, Long> collaborations = new java.util.HashMap<>();
+        for (Object[] row : contributionRequestRepository.countByRequesterForStatus(RequestStatus.APPROVED)) {
+            collaborations.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
         List<java.util.Map<String, Object>> leaderboard = allStudents.stream()
                 .map(student -> {
-                    // Count projects
-                    int projectCount = projectRepository.findByOwner(student).size();
-
-                    // Count approved collaborations (where student requested)
-                    long collaborationCount = contributionRequestRepository
-                            .countByRequestedByAndStatus(student, RequestStatus.APPROVED);
-
-                    // Count total likes on student's projects
-                    List<Project> studentProjects = projectRepository.findByOwner(student);
-                    int totalLikes = studentProjects.stream()
-                            .mapToInt(Project::getLikeCount)
-                            .sum();
+                    long[] totals = projectTotals.getOrDefault(student.getId(), new long[2]);
+                    int projectCount = (int) totals[0];
+                    long collaborationCount = collaborations.getOrDefault(student.getId(), 0L);
+                    int totalLikes = (int) totals[1];
 
                     // Calculate total score (projects + collaborations + likes)
                     int totalScore = projectCount + (int) collaborationCount + totalLikes;
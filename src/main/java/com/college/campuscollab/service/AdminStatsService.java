@@ -0,0 +1,154 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.dto.AdminStatsDTO;
+import com.college.campuscollab.entity.RequestStatus;
+import com.college.campuscollab.entity.Role;
+import com.college.campuscollab.event.*;
+import com.college.campuscollab.repository.ContributionRequestRepository;
+import com.college.campuscollab.repository.ProjectRepository;
+import com.college.campuscollab.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory admin dashboard counters, so /api/admin/stats is served without SQL.
+ *
+ * Seeded from the database on first use, then kept current from domain events
+ * delivered by DomainEventBus after the publishing transaction commits. A scheduled reconcile recounts
+ * from the database and corrects any drift (e.g. an event applied while the
+ * reconcile was counting, or rows changed outside the application).
+ */
+@Service
+@Slf4j
+public class AdminStatsService {
+
+    private final UserRepository userRepository;
+    private final ProjectRepository projectRepository;
+    private final ContributionRequestRepository contributionRequestRepository;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile boolean loaded = false;
+
+    private final AtomicLong totalStudents = new AtomicLong();
+    private final AtomicLong totalProjects = new AtomicLong();
+    private final AtomicLong pendingRequests = new AtomicLong();
+    private final AtomicLong approvedRequests = new AtomicLong();
+
+    public AdminStatsService(UserRepository userRepository,
+            ProjectRepository projectRepository,
+            ContributionRequestRepository contributionRequestRepository) {
+        this.userRepository = userRepository;
+        this.projectRepository = projectRepository;
+        this.contributionRequestRepository = contributionRequestRepository;
+    }
+
+    public AdminStatsDTO getStats() {
+        if (!loaded) {
+            reconcile();
+        }
+        return new AdminStatsDTO(totalStudents.get(), totalProjects.get(),
+                pendingRequests.get(), approvedRequests.get());
+    }
+
+    // Recount everything from the database (4 COUNT queries)
+    @Scheduled(fixedDelayString = "${admin.stats.reconcile-interval-ms:300000}",
+            initialDelayString = "${admin.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        loadLock.lock();
+        try {
+            long students = userRepository.countByRole(Role.STUDENT);
+            long projects = projectRepository.count();
+            long pending = contributionRequestRepository.countByStatus(RequestStatus.PENDING);
+            long approved = contributionRequestRepository.countByStatus(RequestStatus.APPROVED);
+
+            if (loaded && (students != totalStudents.get() || projects != totalProjects.get()
+                    || pending != pendingRequests.get() || approved != approvedRequests.get())) {
+                log.warn("Admin stats drifted, correcting: students {} -> {}, projects {} -> {}, "
+                        + "pending {} -> {}, approved {} -> {}",
+                        totalStudents.get(), students, totalProjects.get(), projects,
+                        pendingRequests.get(), pending, approvedRequests.get(), approved);
+            }
+
+            totalStudents.set(students);
+            totalProjects.set(projects);
+            pendingRequests.set(pending);
+            approvedRequests.set(approved);
+            loaded = true;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        if (event.getRole() == Role.STUDENT) {
+            add(totalStudents, 1);
+        }
+    }
+
+    @EventListener
+    public void onUserRoleChanged(UserRoleChangedEvent event) {
+        if (event.getOldRole() == Role.STUDENT) {
+            add(totalStudents, -1);
+        }
+        if (event.getNewRole() == Role.STUDENT) {
+            add(totalStudents, 1);
+        }
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        if (event.getRole() == Role.STUDENT) {
+            add(totalStudents, -1);
+        }
+    }
+
+    @EventListener
+    public void onProjectUploaded(ProjectUploadedEvent event) {
+        add(totalProjects, 1);
+    }
+
+    @EventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        add(totalProjects, -1);
+    }
+
+    @EventListener
+    public void onRequestCreated(ContributionRequestCreatedEvent event) {
+        add(pendingRequests, 1);
+    }
+
+    @EventListener
+    public void onRequestStatusChanged(ContributionRequestStatusChangedEvent event) {
+        if (event.getOldStatus() == event.getNewStatus()) {
+            return;
+        }
+        adjustStatus(event.getOldStatus(), -1);
+        adjustStatus(event.getNewStatus(), 1);
+    }
+
+    @EventListener
+    public void onRequestDeleted(ContributionRequestDeletedEvent event) {
+        adjustStatus(event.getStatus(), -1);
+    }
+
+    private void adjustStatus(RequestStatus status, long delta) {
+        if (status == RequestStatus.PENDING) {
+            add(pendingRequests, delta);
+        } else if (status == RequestStatus.APPROVED) {
+            add(approvedRequests, delta);
+        }
+    }
+
+    private void add(AtomicLong counter, long delta) {
+        // Before seeding, the seed queries will pick the change up instead
+        if (loaded) {
+            counter.addAndGet(delta);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.entity.RequestStatus;
+import com.college.campuscollab.event.ContributionRequestCreatedEvent;
+import com.college.campuscollab.event.ContributionRequestDeletedEvent;
+import com.college.campuscollab.event.ContributionRequestStatusChangedEvent;
+import com.college.campuscollab.event.ProjectDeletedEvent;
+import com.college.campuscollab.event.UserDeletedEvent;
+import com.college.campuscollab.repository.ContributionRequestRepository;
+import com.college.campuscollab.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (project id, user id) -> contribution request id and status, for the
+ * download-access check, plus project id -> owner id.
+ *
+ * Both ids are packed into one long key and the request id and status into
+ * one long value, so an entry is two boxed longs. Entries are loaded on
+ * first lookup ("no request" is cached too), written through by
+ * ContributionRequestServiceImpl and kept current from request and
+ * deletion events. The map is cleared when it outgrows max-entries and
+ * refills on demand.
+ */
+@Service
+public class ContributionAccessIndex {
+
+    private static final long NO_REQUEST = -1L;
+    private static final RequestStatus[] STATUSES = RequestStatus.values();
+    private static final int STATUS_BITS = 4;
+
+    public record Grant(Long requestId, RequestStatus status) {
+    }
+
+    private final ContributionRequestRepository requestRepository;
+    private final ProjectRepository projectRepository;
+    private final int maxEntries;
+
+    private final Map<Long, Long> grants = new ConcurrentHashMap<>();
+    private final Map<Long, Long> owners = new ConcurrentHashMap<>();
+
+    public ContributionAccessIndex(ContributionRequestRepository requestRepository,
+            ProjectRepository projectRepository,
+            @Value("${contributions.access-index.max-entries:500000}") int maxEntries) {
+        this.requestRepository = requestRepository;
+        this.projectRepository = projectRepository;
+        this.maxEntries = maxEntries;
+    }
+
+    // Owner of the project; throws if it does not exist
+    public Long ownerOf(Long projectId) {
+        Long owner = owners.get(projectId);
+        if (owner != null) {
+            return owner;
+        }
+        owner = projectRepository.findOwnerIdById(projectId)
+                .orElseThrow(() -> new RuntimeException("Project not found with ID: " + projectId));
+        owners.put(projectId, owner);
+        return owner;
+    }
+
+    // The user's request for the project, or null if they never asked
+    public Grant grantFor(Long projectId, Long userId) {
+        long key = key(projectId, userId);
+        if (key < 0) {
+            return load(projectId, userId);
+        }
+        Long cached = grants.get(key);
+        if (cached == null) {
+            Grant loaded = load(projectId, userId);
+            cached = loaded != null ? pack(loaded.requestId(), loaded.status()) : NO_REQUEST;
+            if (grants.size() >= maxEntries) {
+                grants.clear();
+            }
+            // A write-through that raced with the load wins
+            Long raced = grants.putIfAbsent(key, cached);
+            if (raced != null) {
+                cached = raced;
+            }
+        }
+        return unpack(cached);
+    }
+
+    public void record(Long projectId, Long userId, Long requestId, RequestStatus status) {
+        long key = key(projectId, userId);
+        if (key >= 0) {
+            grants.put(key, pack(requestId, status));
+        }
+    }
+
+    @EventListener
+    public void onRequestCreated(ContributionRequestCreatedEvent event) {
+        record(event.getProjectId(), event.getRequesterId(), event.getRequestId(), RequestStatus.PENDING);
+    }
+
+    @EventListener
+    public void onRequestStatusChanged(ContributionRequestStatusChangedEvent event) {
+        record(event.getProjectId(), event.getRequesterId(), event.getRequestId(), event.getNewStatus());
+    }
+
+    @EventListener
+    public void onRequestDeleted(ContributionRequestDeletedEvent event) {
+        if (event.getProjectId() == null || event.getRequesterId() == null) {
+            return;
+        }
+        long key = key(event.getProjectId(), event.getRequesterId());
+        if (key >= 0) {
+            grants.put(key, NO_REQUEST);
+        }
+    }
+
+    @EventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        owners.remove(event.getProjectId());
+        long projectBits = event.getProjectId();
+        grants.keySet().removeIf(key -> key >>> 32 == projectBits);
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        long userBits = event.getUserId();
+        grants.keySet().removeIf(key -> (key & 0xFFFFFFFFL) == userBits);
+        owners.values().removeIf(owner -> owner.equals(event.getUserId()));
+    }
+
+    private Grant load(Long projectId, Long userId) {
+        List<Object[]> rows = requestRepository.findIdAndStatusByProjectIdAndRequesterId(projectId, userId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        return new Grant((Long) row[0], (RequestStatus) row[1]);
+    }
+
+    // Both ids in 32 bits each, or -1 when either does not fit (those pairs are not cached)
+    private static long key(Long projectId, Long userId) {
+        if (projectId == null || userId == null
+                || projectId < 0 || projectId > 0x7FFFFFFFL || userId < 0 || userId > 0xFFFFFFFFL) {
+            return -1;
+        }
+        return projectId << 32 | userId;
+    }
+
+    private static long pack(Long requestId, RequestStatus status) {
+        return requestId << STATUS_BITS | status.ordinal();
+    }
+
+    private static Grant unpack(long value) {
+        if (value == NO_REQUEST) {
+            return null;
+        }
+        return new Grant(value >>> STATUS_BITS, STATUSES[(int) (value & ((1 << STATUS_BITS) - 1))]);
+    }
+}
@@ -1,6 +1,7 @@
 package com.college.campuscollab.service;
 
 import com.college.campuscollab.dto.ContributionResponse;
+import com.college.campuscollab.dto.PendingRequestDTO;
 import com.college.campuscollab.entity.ContributionRequest;
 import com.college.campuscollab.entity.Project;
 import com.college.campuscollab.entity.User;
@@ -9,7 +10,13 @@ import java.util.List;
 
 public interface ContributionRequestService {
 
-    ContributionRequest requestContribution(Project project, User user, String message);
+    // What requestContribution did with the user's request for the project
+    enum RequestOutcome { CREATED, REOPENED, UNCHANGED }
+
+    record RequestResult(ContributionRequest request, RequestOutcome outcome) {
+    }
+
+    RequestResult requestContribution(Project project, User user, String message);
 
     List<ContributionRequest> getRequestsForProject(Project project);
 
@@ -21,6 +28,11 @@ public interface ContributionRequestService {
 
     ContributionResponse convertToResponse(ContributionRequest request);
 
+    // Pending requests on the owner's projects, newest first
+    List<PendingRequestDTO> getPendingInbox(Long ownerId, int page, int size);
+
+    long countPendingInbox(Long ownerId);
+
     // Check if user has access to download project (owner or approved request)
     boolean hasDownloadAccess(Long projectId, User user);
 }
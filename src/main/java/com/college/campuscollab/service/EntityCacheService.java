@@ -0,0 +1,90 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.dto.SecondLevelCacheStatsDTO;
+import com.college.campuscollab.entity.Project;
+import com.college.campuscollab.entity.User;
+import com.college.campuscollab.event.ProjectDeletedEvent;
+import com.college.campuscollab.event.UserDeletedEvent;
+import com.college.campuscollab.event.UserUpdatedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Explicit evictions and hit ratios for the Hibernate second-level cache
+ * (User, Project, Quiz and QuizQuestion; see LocalCacheRegionFactory).
+ *
+ * READ_WRITE regions are already updated when a transaction commits. The
+ * admin update and delete paths still evict their entities once the
+ * events arrive, so a stale entry or an old email -> id resolution never
+ * outlives the change.
+ */
+@Service
+@Slf4j
+public class EntityCacheService {
+
+    private final SessionFactory sessionFactory;
+
+    public EntityCacheService(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @EventListener
+    public void onUserUpdated(UserUpdatedEvent event) {
+        evictUser(event.getUserId());
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        evictUser(event.getUserId());
+    }
+
+    @EventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(Project.class, event.getProjectId());
+        cache.evictCollectionData(Project.class.getName() + ".screenshots", event.getProjectId());
+    }
+
+    public void evictUser(Long userId) {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(User.class, userId);
+        // Resolutions are keyed by email, so the whole (small) natural-id region goes
+        cache.evictNaturalIdData(User.class);
+        log.debug("Evicted user {} from the second-level cache", userId);
+    }
+
+    public SecondLevelCacheStatsDTO getStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<SecondLevelCacheStatsDTO.RegionStats> regions = new ArrayList<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+            if (stats != null) {
+                regions.add(new SecondLevelCacheStatsDTO.RegionStats(region, stats.getHitCount(),
+                        stats.getMissCount(), stats.getPutCount(), ratio(stats.getHitCount(), stats.getMissCount())));
+            }
+        }
+        return new SecondLevelCacheStatsDTO(
+                statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(),
+                statistics.getSecondLevelCachePutCount(),
+                ratio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount()),
+                statistics.getNaturalIdCacheHitCount(),
+                statistics.getNaturalIdCacheMissCount(),
+                ratio(statistics.getNaturalIdCacheHitCount(), statistics.getNaturalIdCacheMissCount()),
+                regions);
+    }
+
+    private static double ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total > 0 ? (double) hits / total : 0;
+    }
+}
@@ -0,0 +1,322 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.event.ContributionRequestCreatedEvent;
+import com.college.campuscollab.event.ContributionRequestDeletedEvent;
+import com.college.campuscollab.event.ContributionRequestStatusChangedEvent;
+import com.college.campuscollab.event.ProjectDeletedEvent;
+import com.college.campuscollab.event.ProjectStatusChangedEvent;
+import com.college.campuscollab.event.ProjectUploadedEvent;
+import com.college.campuscollab.event.UserDeletedEvent;
+import com.college.campuscollab.event.UserRegisteredEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events push channel, one or more connections per user.
+ *
+ * Notifications are built from domain events, which DomainEventBus delivers
+ * after commit. Each user keeps the last replay-size notifications so a
+ * reconnect with Last-Event-ID gets what it missed; if the id is older than
+ * that, from before a restart, or more than the connection buffer can hold,
+ * the client is told to resync instead.
+ *
+ * Every connection has a bounded buffer drained by its own virtual thread,
+ * so a slow client never blocks event dispatch; a client whose buffer
+ * fills up is disconnected and catches up through replay. Admins also get
+ * the dashboard stats, coalesced to at most one push per interval.
+ */
+@Service
+@Slf4j
+public class NotificationHub {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final AdminStatsService adminStatsService;
+    private final int bufferSize;
+    private final int replaySize;
+
+    // Ids start from the clock so they keep increasing across restarts
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    // Ids below this were issued by an earlier process, whose notifications are gone
+    private final long startSequence = sequence.get();
+    private final Map<Long, UserChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicBoolean statsDirty = new AtomicBoolean();
+
+    private record Notification(long id, String type, Map<String, Object> data) {
+    }
+
+    private static final class UserChannel {
+        // Guarded by this
+        final Deque<Notification> recent = new ArrayDeque<>();
+        long firstEvicted;
+        final Set<Connection> connections = new CopyOnWriteArraySet<>();
+    }
+
+    private final class Connection {
+        final Long userId;
+        final boolean admin;
+        final SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        final BlockingQueue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+        final AtomicBoolean closed = new AtomicBoolean();
+        Thread writer;
+
+        Connection(Long userId, boolean admin) {
+            this.userId = userId;
+            this.admin = admin;
+        }
+
+        void start() {
+            writer = Thread.ofVirtual().name("sse-user-" + userId).start(() -> {
+                try {
+                    while (!closed.get()) {
+                        emitter.send(buffer.take());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("SSE connection of user {} dropped: {}", userId, e.getMessage());
+                } finally {
+                    close();
+                }
+            });
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (!closed.get() && !buffer.offer(event)) {
+                log.debug("SSE buffer full for user {}, disconnecting", userId);
+                close();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            UserChannel channel = channels.get(userId);
+            if (channel != null) {
+                channel.connections.remove(this);
+            }
+            if (writer != null && writer != Thread.currentThread()) {
+                writer.interrupt();
+            }
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // Already completed by the container
+            }
+        }
+    }
+
+    public NotificationHub(AdminStatsService adminStatsService,
+            @Value("${notifications.buffer-size:64}") int bufferSize,
+            @Value("${notifications.replay-size:100}") int replaySize) {
+        this.adminStatsService = adminStatsService;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+    }
+
+    public SseEmitter subscribe(Long userId, boolean admin, String lastEventId) {
+        Connection connection = new Connection(userId, admin);
+        connection.emitter.onCompletion(connection::close);
+        connection.emitter.onTimeout(connection::close);
+        connection.emitter.onError(e -> connection.close());
+
+        // Registered and replayed under the channel lock so nothing published in between is lost
+        UserChannel channel = channelOf(userId);
+        synchronized (channel) {
+            connection.offer(SseEmitter.event().comment("connected"));
+            Long lastId = parseId(lastEventId);
+            if (lastId != null) {
+                List<Notification> missed = new ArrayList<>();
+                for (Notification notification : channel.recent) {
+                    if (notification.id() > lastId) {
+                        missed.add(notification);
+                    }
+                }
+                // The writer only starts below, so the replay has to fit in the buffer next to
+                // "connected" and the admin stats; a larger backlog would overflow and drop the connection
+                if (lastId < startSequence || lastId < channel.firstEvicted || lastId > sequence.get()
+                        || missed.size() > bufferSize - 2) {
+                    connection.offer(toEvent(new Notification(sequence.get(), "resync", Map.of())));
+                } else {
+                    missed.forEach(notification -> connection.offer(toEvent(notification)));
+                }
+            }
+            // A connection whose buffer already overflowed has closed itself; adding it would leak it
+            if (!connection.closed.get()) {
+                channel.connections.add(connection);
+            }
+        }
+        if (admin) {
+            connection.offer(SseEmitter.event().name("admin.stats").data(adminStatsService.getStats()));
+        }
+        connection.start();
+        return connection.emitter;
+    }
+
+    public void publish(Long userId, String type, Map<String, Object> data) {
+        if (userId == null) {
+            return;
+        }
+        UserChannel channel = channelOf(userId);
+        synchronized (channel) {
+            Notification notification = new Notification(sequence.incrementAndGet(), type, data);
+            channel.recent.addLast(notification);
+            while (channel.recent.size() > replaySize) {
+                channel.firstEvicted = channel.recent.removeFirst().id();
+            }
+            SseEmitter.SseEventBuilder event = toEvent(notification);
+            for (Connection connection : channel.connections) {
+                connection.offer(event);
+            }
+        }
+    }
+
+    public int getConnectionCount() {
+        return channels.values().stream().mapToInt(channel -> channel.connections.size()).sum();
+    }
+
+    @EventListener
+    public void onRequestCreated(ContributionRequestCreatedEvent event) {
+        publish(event.getOwnerId(), "contribution.requested", payload(
+                "requestId", event.getRequestId(),
+                "projectId", event.getProjectId(),
+                "requesterId", event.getRequesterId()));
+        statsDirty.set(true);
+    }
+
+    @EventListener
+    public void onRequestStatusChanged(ContributionRequestStatusChangedEvent event) {
+        Map<String, Object> data = payload(
+                "requestId", event.getRequestId(),
+                "projectId", event.getProjectId(),
+                "status", event.getNewStatus().name());
+        publish(event.getRequesterId(), "contribution." + event.getNewStatus().name().toLowerCase(), data);
+        publish(event.getOwnerId(), "contribution.status-changed", data);
+        statsDirty.set(true);
+    }
+
+    @EventListener
+    public void onRequestDeleted(ContributionRequestDeletedEvent event) {
+        statsDirty.set(true);
+    }
+
+    @EventListener
+    public void onProjectStatusChanged(ProjectStatusChangedEvent event) {
+        publish(event.getOwnerId(), "project." + event.getNewStatus().toLowerCase(), payload(
+                "projectId", event.getProjectId(),
+                "status", event.getNewStatus()));
+        statsDirty.set(true);
+    }
+
+    @EventListener
+    public void onProjectUploaded(ProjectUploadedEvent event) {
+        statsDirty.set(true);
+    }
+
+    @EventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        statsDirty.set(true);
+    }
+
+    @EventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        statsDirty.set(true);
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        UserChannel channel = channels.remove(event.getUserId());
+        if (channel != null) {
+            channel.connections.forEach(Connection::close);
+        }
+        statsDirty.set(true);
+    }
+
+    // Keeps proxies from closing idle connections and detects dead ones
+    @Scheduled(fixedDelayString = "${notifications.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        SseEmitter.SseEventBuilder ping = SseEmitter.event().comment("heartbeat");
+        for (UserChannel channel : channels.values()) {
+            channel.connections.forEach(connection -> connection.offer(ping));
+        }
+    }
+
+    // Read after the events are applied, so admins see settled numbers
+    @Scheduled(fixedDelayString = "${notifications.admin-stats-interval-ms:2000}")
+    public void pushAdminStats() {
+        if (!statsDirty.getAndSet(false)) {
+            return;
+        }
+        List<Connection> admins = new ArrayList<>();
+        for (UserChannel channel : channels.values()) {
+            for (Connection connection : channel.connections) {
+                if (connection.admin) {
+                    admins.add(connection);
+                }
+            }
+        }
+        if (admins.isEmpty()) {
+            return;
+        }
+        SseEmitter.SseEventBuilder stats = SseEmitter.event().name("admin.stats").data(adminStatsService.getStats());
+        admins.forEach(connection -> connection.offer(stats));
+    }
+
+    @PreDestroy
+    public void close() {
+        for (UserChannel channel : channels.values()) {
+            channel.connections.forEach(Connection::close);
+        }
+    }
+
+    private UserChannel channelOf(Long userId) {
+        return channels.computeIfAbsent(userId, id -> new UserChannel());
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(Notification notification) {
+        return SseEmitter.event()
+                .id(String.valueOf(notification.id()))
+                .name(notification.type())
+                .data(notification.data());
+    }
+
+    private static Long parseId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static Map<String, Object> payload(Object... keyValues) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            data.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,115 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.entity.RequestStatus;
+import com.college.campuscollab.event.ContributionRequestCreatedEvent;
+import com.college.campuscollab.event.ContributionRequestDeletedEvent;
+import com.college.campuscollab.event.ContributionRequestStatusChangedEvent;
+import com.college.campuscollab.event.UserDeletedEvent;
+import com.college.campuscollab.repository.ContributionRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pending collaboration requests per project owner, for the inbox badge.
+ *
+ * An owner's count is loaded with one COUNT query on first read and then
+ * moved by request events; owners that were never read are not tracked.
+ * Events are delivered after commit, so one can land on either side of the
+ * first COUNT and be missed or counted twice. A scheduled reconcile recounts
+ * every tracked owner, as AdminStatsService does, and logs what it corrects.
+ */
+@Service
+@Slf4j
+public class OwnerInboxCounters {
+
+    private final ContributionRequestRepository requestRepository;
+    private final Map<Long, AtomicLong> pendingByOwner = new ConcurrentHashMap<>();
+
+    public OwnerInboxCounters(ContributionRequestRepository requestRepository) {
+        this.requestRepository = requestRepository;
+    }
+
+    public long getPending(Long ownerId) {
+        AtomicLong pending = pendingByOwner.get(ownerId);
+        if (pending == null) {
+            long count = requestRepository.countByOwnerIdAndStatus(ownerId, RequestStatus.PENDING);
+            AtomicLong loaded = new AtomicLong(count);
+            pending = pendingByOwner.putIfAbsent(ownerId, loaded);
+            if (pending == null) {
+                pending = loaded;
+            }
+        }
+        // Until the next reconcile a double-counted decrement could show as negative
+        return Math.max(0, pending.get());
+    }
+
+    // One GROUP BY over pending requests; owners without any are set back to 0
+    @Scheduled(fixedDelayString = "${contributions.inbox.reconcile-interval-ms:60000}",
+            initialDelayString = "${contributions.inbox.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (pendingByOwner.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : requestRepository.countByOwnerForStatus(RequestStatus.PENDING)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        int corrected = 0;
+        for (Map.Entry<Long, AtomicLong> entry : pendingByOwner.entrySet()) {
+            long actual = counts.getOrDefault(entry.getKey(), 0L);
+            if (entry.getValue().getAndSet(actual) != actual) {
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            log.warn("Owner inbox counters drifted, corrected {} of {} owners", corrected, pendingByOwner.size());
+        }
+    }
+
+    @EventListener
+    public void onRequestCreated(ContributionRequestCreatedEvent event) {
+        add(event.getOwnerId(), 1);
+    }
+
+    @EventListener
+    public void onRequestStatusChanged(ContributionRequestStatusChangedEvent event) {
+        if (event.getOldStatus() == event.getNewStatus()) {
+            return;
+        }
+        if (event.getOldStatus() == RequestStatus.PENDING) {
+            add(event.getOwnerId(), -1);
+        }
+        if (event.getNewStatus() == RequestStatus.PENDING) {
+            add(event.getOwnerId(), 1);
+        }
+    }
+
+    @EventListener
+    public void onRequestDeleted(ContributionRequestDeletedEvent event) {
+        if (event.getStatus() == RequestStatus.PENDING) {
+            add(event.getOwnerId(), -1);
+        }
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        pendingByOwner.remove(event.getUserId());
+    }
+
+    private void add(Long ownerId, long delta) {
+        if (ownerId == null) {
+            return;
+        }
+        AtomicLong pending = pendingByOwner.get(ownerId);
+        if (pending != null) {
+            pending.addAndGet(delta);
+        }
+    }
+}
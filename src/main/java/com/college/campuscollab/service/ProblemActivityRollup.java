@@ -0,0 +1,279 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.dto.ProblemActivityDTO;
+import com.college.campuscollab.dto.ProblemLeaderboardEntryDTO;
+import com.college.campuscollab.entity.Difficulty;
+import com.college.campuscollab.event.ProblemSubmittedEvent;
+import com.college.campuscollab.event.UserDeletedEvent;
+import com.college.campuscollab.repository.ProblemRecordRepository;
+import com.college.campuscollab.repository.ProblemSubmissionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Daily problem-solving rollup: for each user, points and solved counts by
+ * difficulty for the last 31 days, kept in int-array ring buffers indexed by
+ * epoch day. Leaderboards for any range inside that window sum at most 31
+ * buckets per user instead of scanning submissions.
+ *
+ * Rebuilt from problem_submission at startup and updated from
+ * ProblemSubmittedEvent. Streaks are tracked from the full history. Rows
+ * still in problem_records count too, as they do in ProblemStatsEngine, so a
+ * user's points do not depend on which of the two answers the range.
+ */
+@Service
+@Slf4j
+public class ProblemActivityRollup {
+
+    public static final int WINDOW_DAYS = 31;
+
+    // Difficulty ordinal, plus one slot for anything else
+    private static final int KINDS = Difficulty.values().length + 1;
+    private static final int OTHER = KINDS - 1;
+
+    private final ProblemSubmissionRepository submissionRepository;
+    private final ProblemRecordRepository recordRepository;
+
+    private final Map<Long, UserActivity> users = new ConcurrentHashMap<>();
+
+    // Guarded by its own monitor
+    private static final class UserActivity {
+        final long userId;
+        final int[] epochDays = new int[WINDOW_DAYS];
+        final int[] points = new int[WINDOW_DAYS];
+        final int[] solved = new int[WINDOW_DAYS * KINDS];
+
+        int lastActiveDay = Integer.MIN_VALUE;
+        int currentStreak;
+        int longestStreak;
+
+        UserActivity(long userId) {
+            this.userId = userId;
+            Arrays.fill(epochDays, Integer.MIN_VALUE);
+        }
+
+        // Slot for the day, cleared first if it still holds a day that left the window
+        int slot(int epochDay) {
+            int slot = Math.floorMod(epochDay, WINDOW_DAYS);
+            if (epochDays[slot] != epochDay) {
+                epochDays[slot] = epochDay;
+                points[slot] = 0;
+                Arrays.fill(solved, slot * KINDS, slot * KINDS + KINDS, 0);
+            }
+            return slot;
+        }
+
+        void record(int epochDay, int kind, int pointsDelta, int count) {
+            int slot = slot(epochDay);
+            points[slot] += pointsDelta;
+            solved[slot * KINDS + kind] += count;
+        }
+
+        void markActive(int epochDay) {
+            if (epochDay <= lastActiveDay) {
+                return;
+            }
+            currentStreak = epochDay == lastActiveDay + 1 ? currentStreak + 1 : 1;
+            longestStreak = Math.max(longestStreak, currentStreak);
+            lastActiveDay = epochDay;
+        }
+
+        long pointsBetween(int fromDay, int toDay) {
+            long total = 0;
+            for (int slot = 0; slot < WINDOW_DAYS; slot++) {
+                int day = epochDays[slot];
+                if (day >= fromDay && day <= toDay) {
+                    total += points[slot];
+                }
+            }
+            return total;
+        }
+
+        long solvedBetween(int fromDay, int toDay, int kind) {
+            long total = 0;
+            for (int slot = 0; slot < WINDOW_DAYS; slot++) {
+                int day = epochDays[slot];
+                if (day >= fromDay && day <= toDay) {
+                    if (kind >= 0) {
+                        total += solved[slot * KINDS + kind];
+                    } else {
+                        for (int k = 0; k < KINDS; k++) {
+                            total += solved[slot * KINDS + k];
+                        }
+                    }
+                }
+            }
+            return total;
+        }
+    }
+
+    private record Ranked(long userId, long points, long solved) {
+    }
+
+    public ProblemActivityRollup(ProblemSubmissionRepository submissionRepository,
+            ProblemRecordRepository recordRepository) {
+        this.submissionRepository = submissionRepository;
+        this.recordRepository = recordRepository;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        users.clear();
+        int today = today();
+        LocalDate since = LocalDate.ofEpochDay(today - WINDOW_DAYS + 1);
+
+        for (Object[] row : submissionRepository.sumDailyBuckets(since)) {
+            UserActivity activity = activityOf((Long) row[0]);
+            int day = (int) ((LocalDate) row[1]).toEpochDay();
+            activity.record(day, kindOf((String) row[2]), ((Long) row[3]).intValue(), ((Long) row[4]).intValue());
+        }
+        // Rows left in problem_records until db/migration/V2 has been run
+        for (Object[] row : recordRepository.sumDailyBuckets(since)) {
+            UserActivity activity = activityOf((Long) row[0]);
+            int day = (int) ((LocalDate) row[1]).toEpochDay();
+            Difficulty difficulty = (Difficulty) row[2];
+            activity.record(day, difficulty != null ? difficulty.ordinal() : OTHER, ((Long) row[3]).intValue(),
+                    ((Long) row[4]).intValue());
+        }
+
+        List<Object[]> activeDays = submissionRepository.findActiveDays();
+        List<Object[]> legacyActiveDays = recordRepository.findActiveDays();
+        if (!legacyActiveDays.isEmpty()) {
+            activeDays = new ArrayList<>(activeDays);
+            activeDays.addAll(legacyActiveDays);
+            activeDays.sort(Comparator.comparing((Object[] row) -> (Long) row[0])
+                    .thenComparing(row -> (LocalDate) row[1]));
+        }
+        // Ordered by user and day, so streaks replay in sequence
+        for (Object[] row : activeDays) {
+            activityOf((Long) row[0]).markActive((int) ((LocalDate) row[1]).toEpochDay());
+        }
+        log.info("Problem activity rollup rebuilt for {} users", users.size());
+    }
+
+    @EventListener
+    public void onProblemSubmitted(ProblemSubmittedEvent event) {
+        UserActivity activity = activityOf(event.getUserId());
+        int day = (int) event.getSubmissionDate().toEpochDay();
+        synchronized (activity) {
+            // Late events for days that already left the window only count towards the streak
+            if (day > today() - WINDOW_DAYS) {
+                activity.record(day, kindOf(event.getDifficulty()), event.getPoints(), 1);
+            }
+            activity.markActive(day);
+        }
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        users.remove(event.getUserId());
+    }
+
+    // True if [start, end] lies inside the rolling window and can be answered from the buckets
+    public boolean covers(LocalDate start, LocalDate end) {
+        return start.toEpochDay() > today() - WINDOW_DAYS && !end.isBefore(start);
+    }
+
+    // Users ranked by points in [start, end], best first, ties broken by user id; email and name are left empty
+    public List<ProblemLeaderboardEntryDTO> getLeaderboard(LocalDate start, LocalDate end, int limit) {
+        int fromDay = (int) start.toEpochDay();
+        int toDay = (int) end.toEpochDay();
+
+        Comparator<Ranked> worstFirst = Comparator.comparingLong(Ranked::points)
+                .thenComparing(Comparator.comparingLong(Ranked::userId).reversed());
+        PriorityQueue<Ranked> best = new PriorityQueue<>(limit + 1, worstFirst);
+
+        for (UserActivity activity : users.values()) {
+            long points;
+            long solved;
+            synchronized (activity) {
+                solved = activity.solvedBetween(fromDay, toDay, -1);
+                if (solved == 0) {
+                    continue;
+                }
+                points = activity.pointsBetween(fromDay, toDay);
+            }
+            best.add(new Ranked(activity.userId, points, solved));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Ranked> ranked = new ArrayList<>(best);
+        ranked.sort(worstFirst.reversed());
+
+        List<ProblemLeaderboardEntryDTO> leaderboard = new ArrayList<>(ranked.size());
+        for (Ranked entry : ranked) {
+            ProblemLeaderboardEntryDTO dto = new ProblemLeaderboardEntryDTO(
+                    entry.userId(), null, null, entry.points(), entry.solved());
+            dto.setRank(leaderboard.size() + 1);
+            leaderboard.add(dto);
+        }
+        return leaderboard;
+    }
+
+    public ProblemActivityDTO getActivity(Long userId) {
+        int today = today();
+        UserActivity activity = users.get(userId);
+        Map<String, Long> byDifficulty = new LinkedHashMap<>();
+        int[] daily = new int[WINDOW_DAYS];
+
+        if (activity == null) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                byDifficulty.put(difficulty.name(), 0L);
+            }
+            return new ProblemActivityDTO(userId, 0, 0, 0, 0, byDifficulty, daily);
+        }
+
+        int fromDay = today - WINDOW_DAYS + 1;
+        synchronized (activity) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                byDifficulty.put(difficulty.name(), activity.solvedBetween(fromDay, today, difficulty.ordinal()));
+            }
+            for (int slot = 0; slot < WINDOW_DAYS; slot++) {
+                int day = activity.epochDays[slot];
+                if (day >= fromDay && day <= today) {
+                    daily[day - fromDay] = activity.points[slot];
+                }
+            }
+            // A streak is still alive until a full day passes without a submission
+            int currentStreak = activity.lastActiveDay >= today - 1 ? activity.currentStreak : 0;
+            return new ProblemActivityDTO(userId, currentStreak, activity.longestStreak,
+                    activity.pointsBetween(today - 7, today),
+                    activity.pointsBetween(today - 30, today),
+                    byDifficulty, daily);
+        }
+    }
+
+    private UserActivity activityOf(Long userId) {
+        return users.computeIfAbsent(userId, UserActivity::new);
+    }
+
+    private static int kindOf(String difficulty) {
+        if (difficulty == null) {
+            return OTHER;
+        }
+        return switch (difficulty.trim().toUpperCase()) {
+            case "EASY" -> Difficulty.EASY.ordinal();
+            case "MEDIUM" -> Difficulty.MEDIUM.ordinal();
+            case "HARD" -> Difficulty.HARD.ordinal();
+            default -> OTHER;
+        };
+    }
+
+    private static int today() {
+        return (int) LocalDate.now().toEpochDay();
+    }
+}
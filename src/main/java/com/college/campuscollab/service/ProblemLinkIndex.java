@@ -0,0 +1,155 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.event.UserDeletedEvent;
+import com.college.campuscollab.repository.ProblemSubmissionRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-user index of normalized problem links to the id of the submission
+ * that first claimed them, used to make problem submissions idempotent.
+ *
+ * A user's links are loaded with one query on their first submission after
+ * startup and kept up to date from then on, so a submit never needs a
+ * lookup query. Claims for one user are serialized on that user's lock, a
+ * ReentrantLock rather than a monitor because the save runs while it is held
+ * and a monitor would pin a virtual thread to its carrier for the insert.
+ */
+@Service
+public class ProblemLinkIndex {
+
+    // Added by share buttons and study plans; they never change which problem a link points to
+    private static final Set<String> TRACKING_PARAMETERS = Set.of("ref", "fbclid", "gclid", "envtype", "envid");
+
+    private final ProblemSubmissionRepository submissionRepository;
+
+    private final Map<Long, UserLinks> linksByUser = new ConcurrentHashMap<>();
+
+    private static final class UserLinks {
+        final ReentrantLock lock = new ReentrantLock();
+        // Guarded by lock
+        final Map<String, Long> links;
+
+        UserLinks(Map<String, Long> links) {
+            this.links = links;
+        }
+    }
+
+    public ProblemLinkIndex(ProblemSubmissionRepository submissionRepository) {
+        this.submissionRepository = submissionRepository;
+    }
+
+    /**
+     * Returns the id of the user's existing submission for the link, or runs
+     * save and records the id it returns. Links that normalize to nothing are
+     * never deduplicated.
+     */
+    public Long claim(Long userId, String problemLink, LongSupplier save) {
+        String key = normalize(problemLink);
+        if (key == null) {
+            return save.getAsLong();
+        }
+        UserLinks user = linksOf(userId);
+        user.lock.lock();
+        try {
+            Long existing = user.links.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            long id = save.getAsLong();
+            user.links.put(key, id);
+            return id;
+        } finally {
+            user.lock.unlock();
+        }
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        linksByUser.remove(event.getUserId());
+    }
+
+    // Without scheme, "www.", fragment, tracking parameters or trailing slashes on the path, and with
+    // the host lower-cased. Path and query keep their case (some judges have case-sensitive problem
+    // ids), and the rest of the query string is kept: some judges identify the problem by it
+    // (Timus problem.aspx?space=1&num=1000). db/migration/V2 applies the same rules in SQL.
+    static String normalize(String link) {
+        if (link == null) {
+            return null;
+        }
+        String value = link.trim();
+        int fragment = value.indexOf('#');
+        if (fragment >= 0) {
+            value = value.substring(0, fragment);
+        }
+        String query = "";
+        int queryStart = value.indexOf('?');
+        if (queryStart >= 0) {
+            query = withoutTrackingParameters(value.substring(queryStart + 1));
+            value = value.substring(0, queryStart);
+        }
+        int scheme = value.indexOf("://");
+        if (scheme >= 0) {
+            value = value.substring(scheme + 3);
+        }
+        int hostEnd = value.indexOf('/');
+        if (hostEnd < 0) {
+            hostEnd = value.length();
+        }
+        value = value.substring(0, hostEnd).toLowerCase(Locale.ROOT) + value.substring(hostEnd);
+        if (value.startsWith("www.")) {
+            value = value.substring(4);
+        }
+        int end = value.length();
+        while (end > 0 && value.charAt(end - 1) == '/') {
+            end--;
+        }
+        value = value.substring(0, end);
+        if (value.isEmpty()) {
+            return null;
+        }
+        return query.isEmpty() ? value : value + "?" + query;
+    }
+
+    // Remaining parameters in their original order, empty ones dropped; names match ignoring case
+    private static String withoutTrackingParameters(String query) {
+        StringJoiner kept = new StringJoiner("&");
+        for (String parameter : query.split("&")) {
+            int equals = parameter.indexOf('=');
+            String name = (equals >= 0 ? parameter.substring(0, equals) : parameter).toLowerCase(Locale.ROOT);
+            if (!parameter.isEmpty() && !name.startsWith("utm_") && !TRACKING_PARAMETERS.contains(name)) {
+                kept.add(parameter);
+            }
+        }
+        return kept.toString();
+    }
+
+    private UserLinks linksOf(Long userId) {
+        UserLinks user = linksByUser.get(userId);
+        if (user != null) {
+            return user;
+        }
+        // Ordered by id, so the earliest submission wins for links already stored twice.
+        // Queried outside computeIfAbsent, whose bin lock is a monitor.
+        Map<String, Long> links = new HashMap<>();
+        for (Object[] row : submissionRepository.findLinksByUserId(userId)) {
+            String key = normalize((String) row[1]);
+            if (key != null) {
+                links.putIfAbsent(key, (Long) row[0]);
+            }
+        }
+        UserLinks loaded = new UserLinks(links);
+        UserLinks existing = linksByUser.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+}
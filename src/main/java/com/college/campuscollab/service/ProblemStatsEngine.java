@@ -0,0 +1,411 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.dto.ProblemHistoryDayDTO;
+import com.college.campuscollab.dto.ProblemLeaderboardEntryDTO;
+import com.college.campuscollab.dto.ProblemPlatformStatDTO;
+import com.college.campuscollab.entity.Difficulty;
+import com.college.campuscollab.event.ProblemSubmittedEvent;
+import com.college.campuscollab.event.UserDeletedEvent;
+import com.college.campuscollab.repository.ProblemRecordRepository;
+import com.college.campuscollab.repository.ProblemSubmissionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Every solved problem (problem_submission plus any problem_records not yet
+ * migrated) held as parallel primitive columns: user, epoch day, difficulty,
+ * platform and points. Users and platforms are dictionary-encoded to ints.
+ *
+ * Rows are kept sorted by day, so a date range is two binary searches and
+ * one tight loop over the slice; per-user sums go into a plain long[]
+ * indexed by the user's dictionary code. New submissions for today append
+ * without breaking the order.
+ *
+ * Loaded at startup, appended from ProblemSubmittedEvent, compacted when a
+ * user is deleted. Reads share a read lock; appends take the write lock.
+ */
+@Service
+@Slf4j
+public class ProblemStatsEngine {
+
+    private static final int LOAD_BATCH = 10_000;
+    private static final byte OTHER_DIFFICULTY = (byte) Difficulty.values().length;
+    private static final int DIFFICULTY_SLOTS = OTHER_DIFFICULTY + 1;
+    private static final String UNKNOWN_PLATFORM = "Unknown";
+    private static final String OTHER_PLATFORM = "Other";
+    // Platform is free text from the submit form; spellings beyond this many distinct ones count as "Other"
+    private static final int MAX_PLATFORMS = 1024;
+
+    private final ProblemSubmissionRepository submissionRepository;
+    private final ProblemRecordRepository recordRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Row columns, valid up to size
+    private int[] users = new int[1024];
+    private int[] days = new int[1024];
+    private byte[] difficulties = new byte[1024];
+    private short[] platforms = new short[1024];
+    private int[] points = new int[1024];
+    private int size;
+
+    // Dictionaries
+    private final Map<Long, Integer> userCodes = new HashMap<>();
+    private long[] userIds = new long[256];
+    private final Map<String, Short> platformCodes = new HashMap<>();
+    private final List<String> platformNames = new ArrayList<>();
+
+    private record Ranked(long userId, long points, long solved) {
+    }
+
+    public ProblemStatsEngine(ProblemSubmissionRepository submissionRepository,
+            ProblemRecordRepository recordRepository) {
+        this.submissionRepository = submissionRepository;
+        this.recordRepository = recordRepository;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            userCodes.clear();
+            platformCodes.clear();
+            platformNames.clear();
+
+            long after = 0;
+            List<Object[]> batch;
+            do {
+                batch = submissionRepository.findStatsRowsAfter(after, PageRequest.of(0, LOAD_BATCH));
+                for (Object[] row : batch) {
+                    after = (Long) row[0];
+                    append((Long) row[1], (LocalDate) row[2], difficultyCode((String) row[3]),
+                            (String) row[4], (Integer) row[5]);
+                }
+            } while (batch.size() == LOAD_BATCH);
+
+            // Rows left in problem_records until db/migration/V2 has been run; ProblemActivityRollup reads them too
+            after = 0;
+            int legacy = 0;
+            do {
+                batch = recordRepository.findStatsRowsAfter(after, PageRequest.of(0, LOAD_BATCH));
+                for (Object[] row : batch) {
+                    after = (Long) row[0];
+                    Difficulty difficulty = (Difficulty) row[3];
+                    byte code = difficulty != null ? (byte) difficulty.ordinal() : OTHER_DIFFICULTY;
+                    Integer rowPoints = (Integer) row[5];
+                    append((Long) row[1], (LocalDate) row[2], code, (String) row[4],
+                            rowPoints != null ? rowPoints : defaultPoints(code));
+                    legacy++;
+                }
+            } while (batch.size() == LOAD_BATCH);
+
+            sortByDay();
+            log.info("Problem stats engine loaded {} rows ({} from problem_records) for {} users",
+                    size, legacy, userCodes.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onProblemSubmitted(ProblemSubmittedEvent event) {
+        lock.writeLock().lock();
+        try {
+            append(event.getUserId(), event.getSubmissionDate(), difficultyCode(event.getDifficulty()),
+                    event.getPlatform(), event.getPoints());
+            // A submission back-dated behind the last row moves into place
+            if (size > 1 && days[size - 1] < days[size - 2]) {
+                moveLastRowIntoPlace();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            Integer code = userCodes.get(event.getUserId());
+            if (code == null) {
+                return;
+            }
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (users[i] != code) {
+                    users[kept] = users[i];
+                    days[kept] = days[i];
+                    difficulties[kept] = difficulties[i];
+                    platforms[kept] = platforms[i];
+                    points[kept] = points[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            // The code stays allocated; nothing refers to it any more
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Users ranked by points in [start, end], best first, ties broken by user id; email and name are left empty
+    public List<ProblemLeaderboardEntryDTO> getLeaderboard(LocalDate start, LocalDate end, int limit) {
+        List<Ranked> ranked = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int from = lowerBound((int) start.toEpochDay());
+            int to = lowerBound((int) end.toEpochDay() + 1);
+            int userCount = userCodes.size();
+            long[] pointSums = new long[userCount];
+            int[] solved = new int[userCount];
+            for (int i = from; i < to; i++) {
+                pointSums[users[i]] += points[i];
+                solved[users[i]]++;
+            }
+            for (int code = 0; code < userCount; code++) {
+                if (solved[code] > 0) {
+                    ranked.add(new Ranked(userIds[code], pointSums[code], solved[code]));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        ranked.sort((a, b) -> a.points() != b.points()
+                ? Long.compare(b.points(), a.points())
+                : Long.compare(a.userId(), b.userId()));
+
+        List<ProblemLeaderboardEntryDTO> leaderboard = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (Ranked entry : ranked.subList(0, Math.min(limit, ranked.size()))) {
+            ProblemLeaderboardEntryDTO dto = new ProblemLeaderboardEntryDTO(
+                    entry.userId(), null, null, entry.points(), entry.solved());
+            dto.setRank(leaderboard.size() + 1);
+            leaderboard.add(dto);
+        }
+        return leaderboard;
+    }
+
+    // One entry per day in [start, end] on which the user solved something
+    public List<ProblemHistoryDayDTO> getHistory(Long userId, LocalDate start, LocalDate end) {
+        lock.readLock().lock();
+        try {
+            Integer code = userCodes.get(userId);
+            if (code == null) {
+                return List.of();
+            }
+            int firstDay = (int) start.toEpochDay();
+            int dayCount = (int) (end.toEpochDay() - firstDay + 1);
+            long[] dayPoints = new long[dayCount];
+            long[] daySolved = new long[dayCount];
+            int to = lowerBound(firstDay + dayCount);
+            for (int i = lowerBound(firstDay); i < to; i++) {
+                if (users[i] == code) {
+                    dayPoints[days[i] - firstDay] += points[i];
+                    daySolved[days[i] - firstDay]++;
+                }
+            }
+
+            List<ProblemHistoryDayDTO> history = new ArrayList<>();
+            for (int d = 0; d < dayCount; d++) {
+                if (daySolved[d] > 0) {
+                    history.add(new ProblemHistoryDayDTO(LocalDate.ofEpochDay(firstDay + d), daySolved[d], dayPoints[d]));
+                }
+            }
+            return history;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Solved count and points per platform in [start, end], for one user or everyone (userId null)
+    public List<ProblemPlatformStatDTO> getPlatformBreakdown(Long userId, LocalDate start, LocalDate end) {
+        lock.readLock().lock();
+        try {
+            int code = -1;
+            if (userId != null) {
+                Integer found = userCodes.get(userId);
+                if (found == null) {
+                    return List.of();
+                }
+                code = found;
+            }
+            long[] platformSolved = new long[platformNames.size()];
+            long[] platformPoints = new long[platformNames.size()];
+            // Row p * DIFFICULTY_SLOTS + difficulty
+            long[] platformDifficulty = new long[platformNames.size() * DIFFICULTY_SLOTS];
+            int to = lowerBound((int) end.toEpochDay() + 1);
+            for (int i = lowerBound((int) start.toEpochDay()); i < to; i++) {
+                if (code < 0 || users[i] == code) {
+                    platformSolved[platforms[i]]++;
+                    platformPoints[platforms[i]] += points[i];
+                    platformDifficulty[platforms[i] * DIFFICULTY_SLOTS + difficulties[i]]++;
+                }
+            }
+
+            List<ProblemPlatformStatDTO> breakdown = new ArrayList<>();
+            for (int p = 0; p < platformSolved.length; p++) {
+                if (platformSolved[p] > 0) {
+                    int base = p * DIFFICULTY_SLOTS;
+                    breakdown.add(new ProblemPlatformStatDTO(platformNames.get(p), platformSolved[p], platformPoints[p],
+                            platformDifficulty[base + Difficulty.EASY.ordinal()],
+                            platformDifficulty[base + Difficulty.MEDIUM.ordinal()],
+                            platformDifficulty[base + Difficulty.HARD.ordinal()]));
+                }
+            }
+            breakdown.sort((a, b) -> Long.compare(b.getSolved(), a.getSolved()));
+            return breakdown;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void append(Long userId, LocalDate date, byte difficulty, String platform, int rowPoints) {
+        if (userId == null || date == null) {
+            return;
+        }
+        if (size == days.length) {
+            int capacity = size * 2;
+            users = Arrays.copyOf(users, capacity);
+            days = Arrays.copyOf(days, capacity);
+            difficulties = Arrays.copyOf(difficulties, capacity);
+            platforms = Arrays.copyOf(platforms, capacity);
+            points = Arrays.copyOf(points, capacity);
+        }
+        users[size] = userCode(userId);
+        days[size] = (int) date.toEpochDay();
+        difficulties[size] = difficulty;
+        platforms[size] = platformCode(platform);
+        points[size] = rowPoints;
+        size++;
+    }
+
+    private int userCode(long userId) {
+        return userCodes.computeIfAbsent(userId, id -> {
+            int code = userCodes.size();
+            if (code == userIds.length) {
+                userIds = Arrays.copyOf(userIds, code * 2);
+            }
+            userIds[code] = id;
+            return code;
+        });
+    }
+
+    // Platforms are matched ignoring case and whitespace; the first spelling seen is reported
+    private short platformCode(String platform) {
+        String name = platform == null || platform.isBlank() ? UNKNOWN_PLATFORM : platform.trim();
+        Short code = platformCodes.get(name.toLowerCase(Locale.ROOT));
+        if (code != null) {
+            return code;
+        }
+        if (platformNames.size() >= MAX_PLATFORMS - 1) {
+            name = OTHER_PLATFORM;
+        }
+        String spelling = name;
+        return platformCodes.computeIfAbsent(spelling.toLowerCase(Locale.ROOT), key -> {
+            platformNames.add(spelling);
+            return (short) (platformNames.size() - 1);
+        });
+    }
+
+    // First row whose day is >= the given day
+    private int lowerBound(int day) {
+        return lowerBound(day, size);
+    }
+
+    // Same, among the first rows only
+    private int lowerBound(int day, int rows) {
+        int low = 0;
+        int high = rows;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] < day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Stable sort of all columns by day: (day, row) packed into one long each, so the sort is primitive
+    private void sortByDay() {
+        long[] order = new long[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = (long) days[i] << 32 | i;
+        }
+        Arrays.sort(order);
+
+        int[] newUsers = new int[users.length];
+        int[] newDays = new int[days.length];
+        byte[] newDifficulties = new byte[difficulties.length];
+        short[] newPlatforms = new short[platforms.length];
+        int[] newPoints = new int[points.length];
+        for (int i = 0; i < size; i++) {
+            int row = (int) order[i];
+            newUsers[i] = users[row];
+            newDays[i] = days[row];
+            newDifficulties[i] = difficulties[row];
+            newPlatforms[i] = platforms[row];
+            newPoints[i] = points[row];
+        }
+        users = newUsers;
+        days = newDays;
+        difficulties = newDifficulties;
+        platforms = newPlatforms;
+        points = newPoints;
+    }
+
+    // Shifts the rows of later days up by one and puts the last row after the rows of its own day
+    private void moveLastRowIntoPlace() {
+        int last = size - 1;
+        int user = users[last];
+        int day = days[last];
+        byte difficulty = difficulties[last];
+        short platform = platforms[last];
+        int rowPoints = points[last];
+
+        int at = lowerBound(day + 1, last);
+        int moved = last - at;
+        System.arraycopy(users, at, users, at + 1, moved);
+        System.arraycopy(days, at, days, at + 1, moved);
+        System.arraycopy(difficulties, at, difficulties, at + 1, moved);
+        System.arraycopy(platforms, at, platforms, at + 1, moved);
+        System.arraycopy(points, at, points, at + 1, moved);
+
+        users[at] = user;
+        days[at] = day;
+        difficulties[at] = difficulty;
+        platforms[at] = platform;
+        points[at] = rowPoints;
+    }
+
+    private static byte difficultyCode(String difficulty) {
+        if (difficulty == null) {
+            return OTHER_DIFFICULTY;
+        }
+        try {
+            return (byte) Difficulty.valueOf(difficulty.trim().toUpperCase(Locale.ROOT)).ordinal();
+        } catch (IllegalArgumentException e) {
+            return OTHER_DIFFICULTY;
+        }
+    }
+
+    // Same scale as ProblemSubmissionServiceImpl.submitProblem
+    private static int defaultPoints(byte difficulty) {
+        return difficulty == OTHER_DIFFICULTY ? 0 : (difficulty + 1) * 10;
+    }
+}
@@ -1,16 +1,29 @@
 package com.college.campuscollab.service;
 
+import com.college.campuscollab.dto.ProblemActivityDTO;
+import com.college.campuscollab.dto.ProblemHistoryDayDTO;
+import com.college.campuscollab.dto.ProblemLeaderboardEntryDTO;
+import com.college.campuscollab.dto.ProblemPlatformStatDTO;
 import com.college.campuscollab.entity.ProblemSubmission;
 import com.college.campuscollab.entity.User;
 
 import java.time.LocalDate;
-import java.util.Map;
+import java.util.List;
 
 public interface ProblemSubmissionService {
 
     ProblemSubmission submitProblem(
             ProblemSubmission submission, User user);
 
-    Map<String, Integer> getLeaderboard(
-            LocalDate start, LocalDate end);
+    List<ProblemLeaderboardEntryDTO> getLeaderboard(
+            LocalDate start, LocalDate end, int limit);
+
+    ProblemActivityDTO getActivity(User user);
+
+    List<ProblemHistoryDayDTO> getHistory(
+            User user, LocalDate start, LocalDate end);
+
+    // user may be null for all users
+    List<ProblemPlatformStatDTO> getPlatformBreakdown(
+            User user, LocalDate start, LocalDate end);
 }
@@ -0,0 +1,164 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.dto.ProjectResponse;
+import com.college.campuscollab.event.ProjectDeletedEvent;
+import com.college.campuscollab.event.ProjectStatusChangedEvent;
+import com.college.campuscollab.event.ProjectUploadedEvent;
+import com.college.campuscollab.event.UserDeletedEvent;
+import com.college.campuscollab.event.UserUpdatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Serialized JSON of the public project feeds (/approved, /browse and
+ * /search) keyed by normalized query, with a strong ETag per body.
+ *
+ * A miss is computed once: concurrent requests for the same key wait on
+ * the same future instead of each running the query. Uploads, status
+ * changes and deletions of projects, and edits or deletions of their
+ * owners, drop every feed; a computation that overlapped an invalidation
+ * is served but not kept. View and like counts are allowed to lag by up
+ * to ttl-ms.
+ */
+@Service
+@Slf4j
+public class ProjectFeedCache {
+
+    public record Feed(byte[] body, String etag) {
+    }
+
+    // Text filters are compared with LOWER() in the query, so their case does not matter
+    private record FeedKey(String feed, String search, String status, String course, String techStack) {
+    }
+
+    private record Entry(CompletableFuture<Feed> feed, long generation, long expiresAt) {
+    }
+
+    private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<FeedKey, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProjectFeedCache(ProjectService projectService,
+            ObjectMapper objectMapper,
+            @Value("${projects.feed-cache.ttl-ms:30000}") long ttlMillis,
+            @Value("${projects.feed-cache.max-entries:1000}") int maxEntries) {
+        this.projectService = projectService;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public Feed getApproved() {
+        return get(new FeedKey("approved", null, null, null, null), projectService::getApprovedProjects);
+    }
+
+    public Feed getBrowse() {
+        return get(new FeedKey("browse", null, null, null, null), projectService::getAllProjectsAsResponse);
+    }
+
+    public Feed search(String search, String status, String course, String techStack) {
+        FeedKey key = new FeedKey("search", lower(search), status, lower(course), lower(techStack));
+        return get(key, () -> projectService.searchProjects(search, status, course, techStack));
+    }
+
+    @EventListener
+    public void onProjectUploaded(ProjectUploadedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onProjectStatusChanged(ProjectStatusChangedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onProjectDeleted(ProjectDeletedEvent event) {
+        invalidate();
+    }
+
+    // Feeds embed the owner's name and email
+    @EventListener
+    public void onUserUpdated(UserUpdatedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private Feed get(FeedKey key, Supplier<List<ProjectResponse>> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry == null || entry.expiresAt() < now) {
+            Entry created = new Entry(new CompletableFuture<>(), generation.get(), now + ttlMillis);
+            // Only the swap happens under the bin lock; the query runs outside it
+            entry = entries.compute(key,
+                    (k, existing) -> existing == null || existing.expiresAt() < now ? created : existing);
+            if (entry == created) {
+                if (entries.size() > maxEntries) {
+                    entries.clear();
+                }
+                compute(key, created, loader);
+            }
+        }
+        try {
+            return entry.feed().join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+        }
+    }
+
+    // Runs on the request thread that missed; others wait on the future
+    private void compute(FeedKey key, Entry entry, Supplier<List<ProjectResponse>> loader) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(loader.get());
+            entry.feed().complete(new Feed(body, etag(body)));
+            if (entry.generation() != generation.get()) {
+                entries.remove(key, entry);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Failures are not cached; the next request retries
+            entries.remove(key, entry);
+            entry.feed().completeExceptionally(e instanceof RuntimeException ? e : new RuntimeException(e));
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -1,9 +1,11 @@
 package com.college.campuscollab.service;
 
 import com.college.campuscollab.dto.ProjectResponse;
+import com.college.campuscollab.dto.ProjectSummaryDTO;
 import com.college.campuscollab.dto.ProjectUploadRequest;
 import com.college.campuscollab.entity.Project;
 import com.college.campuscollab.entity.User;
+import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -14,9 +16,10 @@ public interface ProjectService {
             List<MultipartFile> files,
             User user);
 
-    List<Project> getAllProjects();
+    // Legacy list endpoints, newest first
+    Page<ProjectSummaryDTO> getProjectSummaries(int page, int size);
 
-    List<Project> getProjectsByOwner(User owner);
+    Page<ProjectSummaryDTO> getProjectSummariesByOwner(Long ownerId, int page, int size);
 
     // New methods for enhanced GET APIs
     List<ProjectResponse> getAllProjectsAsResponse();
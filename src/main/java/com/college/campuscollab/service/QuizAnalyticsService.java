@@ -0,0 +1,301 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.dto.QuizQuestionStatDTO;
+import com.college.campuscollab.dto.QuizStatsDTO;
+import com.college.campuscollab.entity.QuizQuestionStat;
+import com.college.campuscollab.event.QuizSubmittedEvent;
+import com.college.campuscollab.event.UserDeletedEvent;
+import com.college.campuscollab.repository.QuizQuestionStatRepository;
+import com.college.campuscollab.repository.QuizSubmissionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per-quiz results computed as submissions stream in: an exact score
+ * histogram (scores are bounded by the question count), best-score
+ * leaderboard and per-question correct counters.
+ *
+ * Histograms and leaderboards are rebuilt from quiz_submission at startup.
+ * Answers are not stored, so per-question counters are snapshotted to
+ * quiz_question_stats and reloaded from there.
+ *
+ * DomainEventBus delivers all events of one quiz on the same thread, so each
+ * quiz has a single writer; readers see the atomics without locking.
+ */
+@Service
+@Slf4j
+public class QuizAnalyticsService {
+
+    private static final int[] PERCENTILES = { 50, 75, 90, 99 };
+
+    private final QuizSubmissionRepository submissionRepository;
+    private final QuizQuestionStatRepository questionStatRepository;
+    private final QuizCatalog quizCatalog;
+    private final QuizLeaderboardService quizLeaderboardService;
+
+    private final Map<Long, QuizStats> quizzes = new ConcurrentHashMap<>();
+    // Question counters loaded at startup, applied when the quiz's stats are created
+    private final Map<Long, QuizQuestionStat> savedQuestionStats = new ConcurrentHashMap<>();
+
+    private static final class QuizStats {
+        final Long quizId;
+        final RankedScoreBoard bestScores = new RankedScoreBoard();
+        volatile AtomicLongArray histogram;
+
+        volatile QuizAnswerKey answerKey;
+        volatile AtomicLongArray questionHits;
+        final AtomicLong questionAttempts = new AtomicLong();
+        volatile boolean dirty;
+
+        QuizStats(Long quizId, QuizAnswerKey answerKey) {
+            this.quizId = quizId;
+            this.answerKey = answerKey;
+            this.histogram = new AtomicLongArray(answerKey.questionCount() + 1);
+            this.questionHits = new AtomicLongArray(answerKey.questionCount());
+        }
+
+        void recordScore(int score, long count) {
+            AtomicLongArray current = histogram;
+            if (score >= current.length()) {
+                AtomicLongArray grown = new AtomicLongArray(score + 1);
+                for (int i = 0; i < current.length(); i++) {
+                    grown.set(i, current.get(i));
+                }
+                histogram = current = grown;
+            }
+            current.addAndGet(score, count);
+        }
+
+        void recordBest(long userId, long score) {
+            RankedScoreBoard.Entry best = bestScores.get(userId);
+            if (best == null || score > best.score()) {
+                bestScores.set(userId, score);
+            }
+        }
+    }
+
+    public QuizAnalyticsService(QuizSubmissionRepository submissionRepository,
+            QuizQuestionStatRepository questionStatRepository,
+            QuizCatalog quizCatalog,
+            QuizLeaderboardService quizLeaderboardService) {
+        this.submissionRepository = submissionRepository;
+        this.questionStatRepository = questionStatRepository;
+        this.quizCatalog = quizCatalog;
+        this.quizLeaderboardService = quizLeaderboardService;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        quizzes.clear();
+        savedQuestionStats.clear();
+        for (QuizQuestionStat stat : questionStatRepository.findAll()) {
+            savedQuestionStats.put(stat.getQuestionId(), stat);
+        }
+        for (Object[] row : submissionRepository.countScoresByQuiz()) {
+            QuizStats stats = statsFor((Long) row[0]);
+            if (stats != null) {
+                stats.recordScore((Integer) row[1], (Long) row[2]);
+            }
+        }
+        for (Object[] row : submissionRepository.maxScoresByQuizAndUser()) {
+            QuizStats stats = statsFor((Long) row[0]);
+            if (stats != null) {
+                stats.recordBest((Long) row[1], (Integer) row[2]);
+            }
+        }
+        log.info("Quiz analytics rebuilt for {} quizzes", quizzes.size());
+    }
+
+    @EventListener
+    public void onQuizSubmitted(QuizSubmittedEvent event) {
+        QuizStats stats = statsFor(event.getQuizId());
+        if (stats == null) {
+            return;
+        }
+        stats.recordScore(event.getScore(), 1);
+        stats.recordBest(event.getUserId(), event.getScore());
+
+        // Masks are built from the current answer key; remap counters if it was recompiled
+        QuizAnswerKey key = quizCatalog.getAnswerKey(event.getQuizId());
+        if (key != stats.answerKey) {
+            remapQuestions(stats, key);
+        }
+        long[] mask = event.getCorrectMask();
+        AtomicLongArray hits = stats.questionHits;
+        for (int word = 0; word < mask.length; word++) {
+            long bits = mask[word];
+            while (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (index < hits.length()) {
+                    hits.incrementAndGet(index);
+                }
+                bits &= bits - 1;
+            }
+        }
+        stats.questionAttempts.incrementAndGet();
+        stats.dirty = true;
+    }
+
+    // Submissions of a deleted user are gone; histograms keep them until the next rebuild
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        for (QuizStats stats : quizzes.values()) {
+            stats.bestScores.remove(event.getUserId());
+        }
+    }
+
+    public Map<String, Long> getLeaderboard(Long quizId, int limit) {
+        QuizStats stats = requireStats(quizId);
+        Map<String, Long> leaderboard = new LinkedHashMap<>();
+        for (RankedScoreBoard.Entry entry : stats.bestScores.top(limit)) {
+            leaderboard.put(quizLeaderboardService.emailOf(entry.userId()), entry.score());
+        }
+        return leaderboard;
+    }
+
+    public QuizStatsDTO getStats(Long quizId) {
+        QuizStats stats = requireStats(quizId);
+        AtomicLongArray histogram = stats.histogram;
+        long[] counts = new long[histogram.length()];
+        long total = 0;
+        long sum = 0;
+        for (int score = 0; score < counts.length; score++) {
+            counts[score] = histogram.get(score);
+            total += counts[score];
+            sum += score * counts[score];
+        }
+
+        Map<String, Integer> percentiles = new LinkedHashMap<>();
+        for (int p : PERCENTILES) {
+            percentiles.put("p" + p, percentile(counts, total, p));
+        }
+
+        double average = total > 0 ? (double) sum / total : 0;
+        return new QuizStatsDTO(quizId, total, average, stats.answerKey.questionCount(), counts, percentiles);
+    }
+
+    public List<QuizQuestionStatDTO> getQuestionStats(Long quizId) {
+        QuizStats stats = requireStats(quizId);
+        QuizAnswerKey key = stats.answerKey;
+        AtomicLongArray hits = stats.questionHits;
+        long attempts = stats.questionAttempts.get();
+
+        // The key and counters are swapped separately on a recompile; only read what both cover
+        int questions = Math.min(key.questionCount(), hits.length());
+        List<QuizQuestionStatDTO> result = new ArrayList<>(questions);
+        for (int i = 0; i < questions; i++) {
+            long correct = hits.get(i);
+            double rate = attempts > 0 ? (double) correct / attempts : 0;
+            result.add(new QuizQuestionStatDTO(key.questionIdAt(i), attempts, correct, rate));
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.analytics.persist-interval-ms:60000}")
+    public void persist() {
+        List<QuizQuestionStat> rows = new ArrayList<>();
+        for (QuizStats stats : quizzes.values()) {
+            if (!stats.dirty) {
+                continue;
+            }
+            stats.dirty = false;
+            QuizAnswerKey key = stats.answerKey;
+            AtomicLongArray hits = stats.questionHits;
+            long attempts = stats.questionAttempts.get();
+            int questions = Math.min(key.questionCount(), hits.length());
+            for (int i = 0; i < questions; i++) {
+                QuizQuestionStat row = new QuizQuestionStat();
+                row.setQuestionId(key.questionIdAt(i));
+                row.setQuizId(stats.quizId);
+                row.setAttempts(attempts);
+                row.setCorrectCount(hits.get(i));
+                rows.add(row);
+            }
+        }
+        if (!rows.isEmpty()) {
+            questionStatRepository.saveAll(rows);
+        }
+    }
+
+    // Smallest score s such that at least p% of attempts scored s or less
+    private static int percentile(long[] counts, long total, int p) {
+        if (total == 0) {
+            return 0;
+        }
+        long target = (total * p + 99) / 100;
+        long cumulative = 0;
+        for (int score = 0; score < counts.length; score++) {
+            cumulative += counts[score];
+            if (cumulative >= target) {
+                return score;
+            }
+        }
+        return counts.length - 1;
+    }
+
+    private QuizStats requireStats(Long quizId) {
+        QuizStats stats = statsFor(quizId);
+        if (stats == null) {
+            throw new NoSuchElementException("Quiz not found with ID: " + quizId);
+        }
+        return stats;
+    }
+
+    private QuizStats statsFor(Long quizId) {
+        QuizStats stats = quizzes.get(quizId);
+        if (stats != null) {
+            return stats;
+        }
+        QuizAnswerKey key;
+        try {
+            key = quizCatalog.getAnswerKey(quizId);
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+        return quizzes.computeIfAbsent(quizId, id -> {
+            QuizStats created = new QuizStats(id, key);
+            loadSavedQuestionStats(created, key);
+            return created;
+        });
+    }
+
+    private void loadSavedQuestionStats(QuizStats stats, QuizAnswerKey key) {
+        long attempts = 0;
+        for (int i = 0; i < key.questionCount(); i++) {
+            QuizQuestionStat saved = savedQuestionStats.remove(key.questionIdAt(i));
+            if (saved != null) {
+                stats.questionHits.set(i, saved.getCorrectCount());
+                attempts = Math.max(attempts, saved.getAttempts());
+            }
+        }
+        stats.questionAttempts.set(attempts);
+    }
+
+    private void remapQuestions(QuizStats stats, QuizAnswerKey key) {
+        QuizAnswerKey oldKey = stats.answerKey;
+        AtomicLongArray oldHits = stats.questionHits;
+        Map<Long, Long> byQuestion = new HashMap<>();
+        for (int i = 0; i < oldKey.questionCount(); i++) {
+            byQuestion.put(oldKey.questionIdAt(i), oldHits.get(i));
+        }
+        AtomicLongArray hits = new AtomicLongArray(key.questionCount());
+        for (int i = 0; i < key.questionCount(); i++) {
+            hits.set(i, byQuestion.getOrDefault(key.questionIdAt(i), 0L));
+        }
+        stats.questionHits = hits;
+        stats.answerKey = key;
+    }
+}
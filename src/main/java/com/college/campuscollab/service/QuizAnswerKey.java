@@ -0,0 +1,132 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.entity.Quiz;
+import com.college.campuscollab.entity.QuizQuestion;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, compiled answer key for one quiz: question ids sorted in a
+ * long[] with the correct option (A-D as 0-3) at the same index in a byte[].
+ *
+ * Scoring does a binary search per submitted answer and compares bytes; the
+ * only allocation is the correct-answer bitmask, and the entities are never
+ * touched. A correctOption that is
+ * not a single letter A-D is kept as trimmed text and compared ignoring case,
+ * which is what scoring did before.
+ */
+public final class QuizAnswerKey {
+
+    private static final byte NO_OPTION = -1;
+
+    private final long[] questionIds;
+    private final byte[] correctOptions;
+    // Only allocated when some correctOption is free text
+    private final String[] textAnswers;
+
+    private QuizAnswerKey(long[] questionIds, byte[] correctOptions, String[] textAnswers) {
+        this.questionIds = questionIds;
+        this.correctOptions = correctOptions;
+        this.textAnswers = textAnswers;
+    }
+
+    public static QuizAnswerKey compile(Quiz quiz) {
+        List<QuizQuestion> questions = quiz.getQuestions() != null
+                ? quiz.getQuestions().stream()
+                        .filter(q -> q.getId() != null)
+                        .sorted(Comparator.comparing(QuizQuestion::getId))
+                        .toList()
+                : List.of();
+
+        long[] ids = new long[questions.size()];
+        byte[] options = new byte[questions.size()];
+        String[] text = null;
+
+        for (int i = 0; i < questions.size(); i++) {
+            QuizQuestion question = questions.get(i);
+            ids[i] = question.getId();
+            String correct = question.getCorrectOption();
+            options[i] = correct != null ? parseOption(correct) : NO_OPTION;
+
+            if (options[i] == NO_OPTION && correct != null && !correct.isBlank()) {
+                if (text == null) {
+                    text = new String[questions.size()];
+                }
+                text[i] = correct.trim();
+            }
+        }
+        return new QuizAnswerKey(ids, options, text);
+    }
+
+    public int questionCount() {
+        return questionIds.length;
+    }
+
+    // Bit i is set when question i (in key order) was answered correctly
+    public long[] correctMask(Map<Long, String> answers) {
+        long[] mask = new long[(questionIds.length + 63) >>> 6];
+        if (answers == null) {
+            return mask;
+        }
+        for (Map.Entry<Long, String> answer : answers.entrySet()) {
+            int index = indexOf(answer.getKey());
+            if (index >= 0 && isCorrect(index, answer.getValue())) {
+                mask[index >>> 6] |= 1L << index;
+            }
+        }
+        return mask;
+    }
+
+    public static int countCorrect(long[] mask) {
+        int count = 0;
+        for (long word : mask) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // Index of the question in the sorted arrays, or -1 if it is not part of this quiz
+    public int indexOf(Long questionId) {
+        if (questionId == null) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(questionIds, questionId);
+        return index >= 0 ? index : -1;
+    }
+
+    public long questionIdAt(int index) {
+        return questionIds[index];
+    }
+
+    public boolean isCorrect(int index, String submitted) {
+        if (submitted == null) {
+            return false;
+        }
+        byte expected = correctOptions[index];
+        if (expected != NO_OPTION) {
+            return parseOption(submitted) == expected;
+        }
+        String text = textAnswers != null ? textAnswers[index] : null;
+        return text != null && text.equalsIgnoreCase(submitted.trim());
+    }
+
+    // "A".."D" (any case, surrounding whitespace allowed) to 0..3, anything else to NO_OPTION
+    private static byte parseOption(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start != 1) {
+            return NO_OPTION;
+        }
+        char c = Character.toUpperCase(value.charAt(start));
+        return c >= 'A' && c <= 'D' ? (byte) (c - 'A') : NO_OPTION;
+    }
+}
@@ -0,0 +1,51 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.entity.Quiz;
+import com.college.campuscollab.repository.QuizRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled answer keys by quiz id.
+ *
+ * Keys are compiled when a quiz is created and loaded lazily for quizzes that
+ * existed before startup. Anything that edits a quiz's questions must call
+ * evict() so the next submission recompiles.
+ */
+@Service
+@Slf4j
+public class QuizCatalog {
+
+    private final QuizRepository quizRepository;
+    private final Map<Long, QuizAnswerKey> answerKeys = new ConcurrentHashMap<>();
+
+    public QuizCatalog(QuizRepository quizRepository) {
+        this.quizRepository = quizRepository;
+    }
+
+    public QuizAnswerKey getAnswerKey(Long quizId) {
+        QuizAnswerKey key = answerKeys.get(quizId);
+        if (key != null) {
+            return key;
+        }
+        // Loaded outside computeIfAbsent: its bin lock is a monitor and would pin a virtual thread during the query
+        Quiz quiz = quizRepository.findById(quizId)
+                .orElseThrow(() -> new NoSuchElementException("Quiz not found with ID: " + quizId));
+        log.debug("Compiled answer key for quiz {}", quizId);
+        QuizAnswerKey compiled = QuizAnswerKey.compile(quiz);
+        QuizAnswerKey existing = answerKeys.putIfAbsent(quizId, compiled);
+        return existing != null ? existing : compiled;
+    }
+
+    public void register(Quiz quiz) {
+        answerKeys.put(quiz.getId(), QuizAnswerKey.compile(quiz));
+    }
+
+    public void evict(Long quizId) {
+        answerKeys.remove(quizId);
+    }
+}
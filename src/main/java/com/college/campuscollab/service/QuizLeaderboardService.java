@@ -0,0 +1,123 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.dto.QuizRankDTO;
+import com.college.campuscollab.entity.QuizLeaderboardEntry;
+import com.college.campuscollab.event.QuizSubmittedEvent;
+import com.college.campuscollab.event.UserDeletedEvent;
+import com.college.campuscollab.repository.QuizLeaderboardEntryRepository;
+import com.college.campuscollab.repository.QuizSubmissionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global quiz leaderboard (total score per user) kept in a RankedScoreBoard.
+ *
+ * Rebuilt from the submissions table at startup, updated from
+ * QuizSubmittedEvent on every attempt, and snapshotted to the quiz_leaderboard
+ * table on a schedule for reporting.
+ */
+@Service
+@Slf4j
+public class QuizLeaderboardService {
+
+    private final QuizSubmissionRepository submissionRepository;
+    private final QuizLeaderboardEntryRepository leaderboardEntryRepository;
+
+    private final RankedScoreBoard board = new RankedScoreBoard();
+    private final Map<Long, String> emails = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    public QuizLeaderboardService(QuizSubmissionRepository submissionRepository,
+            QuizLeaderboardEntryRepository leaderboardEntryRepository) {
+        this.submissionRepository = submissionRepository;
+        this.leaderboardEntryRepository = leaderboardEntryRepository;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        board.clear();
+        emails.clear();
+        for (Object[] row : submissionRepository.sumScoresByUser()) {
+            Long userId = (Long) row[0];
+            emails.put(userId, (String) row[1]);
+            board.set(userId, (Long) row[2]);
+        }
+        log.info("Quiz leaderboard rebuilt with {} players", board.size());
+    }
+
+    @EventListener
+    public void onQuizSubmitted(QuizSubmittedEvent event) {
+        emails.put(event.getUserId(), event.getUserEmail());
+        board.add(event.getUserId(), event.getScore());
+        dirtyUsers.add(event.getUserId());
+    }
+
+    @EventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        board.remove(event.getUserId());
+        emails.remove(event.getUserId());
+        dirtyUsers.add(event.getUserId());
+    }
+
+    // Top players as email -> total score, best first
+    public Map<String, Long> getTop(int limit) {
+        Map<String, Long> leaderboard = new LinkedHashMap<>();
+        for (RankedScoreBoard.Entry entry : board.top(limit)) {
+            leaderboard.put(emails.get(entry.userId()), entry.score());
+        }
+        return leaderboard;
+    }
+
+    public String emailOf(long userId) {
+        return emails.get(userId);
+    }
+
+    public QuizRankDTO getRank(Long userId, String email) {
+        RankedScoreBoard.Entry entry = board.get(userId);
+        if (entry == null) {
+            return new QuizRankDTO(0, email, 0, board.size());
+        }
+        return new QuizRankDTO(entry.rank(), email, entry.score(), board.size());
+    }
+
+    // Write changed totals to quiz_leaderboard
+    @Scheduled(fixedDelayString = "${quiz.leaderboard.persist-interval-ms:60000}")
+    public void persist() {
+        if (dirtyUsers.isEmpty()) {
+            return;
+        }
+        List<QuizLeaderboardEntry> changed = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Long userId : dirtyUsers) {
+            dirtyUsers.remove(userId);
+            RankedScoreBoard.Entry entry = board.get(userId);
+            if (entry == null) {
+                removed.add(userId);
+                continue;
+            }
+            QuizLeaderboardEntry row = new QuizLeaderboardEntry();
+            row.setUserId(userId);
+            row.setUserEmail(emails.get(userId));
+            row.setTotalScore(entry.score());
+            row.setUpdatedAt(now);
+            changed.add(row);
+        }
+
+        leaderboardEntryRepository.saveAll(changed);
+        leaderboardEntryRepository.deleteAllById(removed);
+        log.debug("Quiz leaderboard snapshot: {} updated, {} removed", changed.size(), removed.size());
+    }
+}
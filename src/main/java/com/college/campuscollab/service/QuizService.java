@@ -1,16 +1,33 @@
 package com.college.campuscollab.service;
 
+import com.college.campuscollab.dto.QuizQuestionStatDTO;
+import com.college.campuscollab.dto.QuizRankDTO;
+import com.college.campuscollab.dto.QuizStatsDTO;
 import com.college.campuscollab.entity.Quiz;
 import com.college.campuscollab.entity.User;
 
+import java.util.List;
 import java.util.Map;
 
 public interface QuizService {
 
     Quiz createQuiz(Quiz quiz);
 
+    // Scores the answers and returns the score; the submission row is written
+    // shortly after by QuizSubmissionWriter, so a crash right after returning
+    // can lose it (the score was shown but is not on the leaderboards, which
+    // only count attempts whose row was written)
     int submitQuiz(Long quizId,
                    Map<Long, String> answers,
                    User user);
-    Map<String, Integer> getQuizLeaderboard();
+
+    Map<String, Long> getQuizLeaderboard(int limit);
+
+    QuizRankDTO getMyQuizRank(User user);
+
+    Map<String, Long> getQuizResultsLeaderboard(Long quizId, int limit);
+
+    QuizStatsDTO getQuizStats(Long quizId);
+
+    List<QuizQuestionStatDTO> getQuestionStats(Long quizId);
 }
@@ -0,0 +1,235 @@
+package com.college.campuscollab.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Group-commit writer for quiz submissions.
+ *
+ * Scored submissions are queued and a single writer thread inserts them as
+ * multi-row INSERTs: once the first row arrives it waits up to linger-ms for
+ * more (or until max-batch rows), then writes them in one statement. This
+ * replaces a burst of single-row IDENTITY inserts (which Hibernate cannot
+ * batch) with a few statements and one connection.
+ *
+ * Each row carries an onWritten callback that runs once its row is
+ * committed, so anything derived from the submission (QuizSubmittedEvent)
+ * never gets ahead of the table. A batch that fails stays with the writer
+ * and is retried with exponential backoff (retry-backoff-ms doubling up to
+ * 30s); only a row the database rejects outright (a constraint violation)
+ * is dropped, and its callback never runs.
+ *
+ * When the queue is full, or the writer is shutting down, the caller writes
+ * its own row synchronously, so a burst slows down instead of losing rows.
+ * Queued rows are flushed on shutdown.
+ *
+ * Durability: enqueue() returns before the row is written, and the caller
+ * has already sent the score back. A crash or kill before the row is written
+ * therefore loses submissions the client was told were accepted; the user
+ * has to submit again. This trade-off is part of the submit API contract
+ * (see QuizService.submitQuiz).
+ */
+@Component
+@Slf4j
+public class QuizSubmissionWriter {
+
+    private static final String INSERT_PREFIX = "INSERT INTO quiz_submission (score, quiz_id, user_id) VALUES ";
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private record PendingSubmission(long quizId, long userId, int score, Runnable onWritten) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<PendingSubmission> queue;
+    private final int maxBatch;
+    private final long lingerNanos;
+    private final long retryBackoffMs;
+    private final Thread writerThread;
+    // Rows accepted by enqueue() and not yet written or dropped
+    private final AtomicInteger unwritten = new AtomicInteger();
+    // enqueue() offers under the read lock, so no row reaches the queue after close() has stopped it
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    public QuizSubmissionWriter(JdbcTemplate jdbcTemplate,
+            @Value("${quiz.submissions.queue-capacity:10000}") int queueCapacity,
+            @Value("${quiz.submissions.max-batch:500}") int maxBatch,
+            @Value("${quiz.submissions.linger-ms:5}") long lingerMs,
+            @Value("${quiz.submissions.retry-backoff-ms:100}") long retryBackoffMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatch = maxBatch;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMs);
+        this.retryBackoffMs = Math.max(1, retryBackoffMs);
+        this.writerThread = new Thread(this::runWriter, "quiz-submission-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Queues a submission; onWritten runs after the row is committed, on the
+     * writer thread (or on the caller's thread when it had to write the row
+     * itself, in which case a failed insert is thrown to the caller).
+     */
+    public void enqueue(long quizId, long userId, int score, Runnable onWritten) {
+        PendingSubmission submission = new PendingSubmission(quizId, userId, score, onWritten);
+        boolean queued;
+        runningLock.readLock().lock();
+        try {
+            queued = running && queue.offer(submission);
+            if (queued) {
+                unwritten.incrementAndGet();
+            }
+        } finally {
+            runningLock.readLock().unlock();
+        }
+        if (!queued) {
+            // Queue full (or shutting down): write this row on the caller's thread
+            insert(List.of(submission));
+            written(List.of(submission));
+        }
+    }
+
+    public int queuedCount() {
+        return unwritten.get();
+    }
+
+    private void runWriter() {
+        List<PendingSubmission> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingSubmission first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Linger briefly so concurrent submissions share the statement
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < maxBatch) {
+                    queue.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0) {
+                        break;
+                    }
+                    PendingSubmission next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Keeps retrying until every row is written or rejected by the database
+    private void flush(List<PendingSubmission> batch) throws InterruptedException {
+        List<PendingSubmission> pending = new ArrayList<>(batch);
+        long backoffMs = retryBackoffMs;
+        while (true) {
+            try {
+                insert(pending);
+                written(pending);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // One bad row fails the whole statement; write the rest one by one
+                log.warn("Batch insert of {} quiz submission(s) failed, retrying one by one", pending.size(), e);
+                pending = insertOneByOne(pending);
+                if (pending.isEmpty()) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Batch insert of {} quiz submission(s) failed, retrying in {} ms", pending.size(),
+                        backoffMs, e);
+            }
+            Thread.sleep(backoffMs);
+            backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+        }
+    }
+
+    // Returns the rows that failed for a reason other than the row itself
+    private List<PendingSubmission> insertOneByOne(List<PendingSubmission> batch) {
+        List<PendingSubmission> failed = new ArrayList<>();
+        for (PendingSubmission submission : batch) {
+            try {
+                insert(List.of(submission));
+                written(List.of(submission));
+            } catch (DataIntegrityViolationException rowError) {
+                unwritten.decrementAndGet();
+                log.error("Dropped quiz submission {}", submission, rowError);
+            } catch (RuntimeException rowError) {
+                failed.add(submission);
+            }
+        }
+        return failed;
+    }
+
+    private void written(List<PendingSubmission> batch) {
+        for (PendingSubmission submission : batch) {
+            if (Thread.currentThread() == writerThread) {
+                unwritten.decrementAndGet();
+            }
+            try {
+                submission.onWritten().run();
+            } catch (RuntimeException e) {
+                log.error("Callback failed for quiz submission {}", submission, e);
+            }
+        }
+    }
+
+    private void insert(List<PendingSubmission> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * 11).append(INSERT_PREFIX);
+        Object[] args = new Object[batch.size() * 3];
+        int i = 0;
+        for (PendingSubmission submission : batch) {
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            args[i++] = submission.score();
+            args[i++] = submission.quizId();
+            args[i++] = submission.userId();
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    // Stop accepting rows into the queue and flush what is already there
+    @PreDestroy
+    public void close() throws InterruptedException {
+        runningLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            runningLock.writeLock().unlock();
+        }
+        writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        if (writerThread.isAlive()) {
+            // Still retrying a failing batch; give up rather than hold up shutdown
+            writerThread.interrupt();
+            writerThread.join(TimeUnit.SECONDS.toMillis(1));
+        }
+        if (unwritten.get() > 0) {
+            log.warn("{} quiz submission(s) were not written before shutdown", unwritten.get());
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.college.campuscollab.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Indexable skip list of (userId, total score), ordered by score descending
+ * and then userId ascending.
+ *
+ * Each forward link stores how many entries it skips (its span), so rank
+ * lookups, top-N and score updates are all O(log n). Reads share a read
+ * lock; updates take the write lock.
+ */
+public class RankedScoreBoard {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    public record Entry(long userId, long score, int rank) {
+    }
+
+    private static final class Node {
+        final long userId;
+        final long score;
+        final Node[] next;
+        final int[] span;
+
+        Node(long userId, long score, int level) {
+            this.userId = userId;
+            this.score = score;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node head = new Node(Long.MIN_VALUE, Long.MAX_VALUE, MAX_LEVEL);
+    private final Map<Long, Node> nodes = new HashMap<>();
+    private int level = 1;
+    private int size = 0;
+
+    // Add delta to the user's total (creating the entry if needed); returns the new total
+    public long add(long userId, long delta) {
+        lock.writeLock().lock();
+        try {
+            Node current = nodes.get(userId);
+            long score = delta;
+            if (current != null) {
+                score += current.score;
+                unlink(current);
+            }
+            nodes.put(userId, insert(userId, score));
+            return score;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void set(long userId, long score) {
+        lock.writeLock().lock();
+        try {
+            Node current = nodes.get(userId);
+            if (current != null) {
+                unlink(current);
+            }
+            nodes.put(userId, insert(userId, score));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            Node current = nodes.remove(userId);
+            if (current != null) {
+                unlink(current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            for (int i = 0; i < MAX_LEVEL; i++) {
+                head.next[i] = null;
+                head.span[i] = 0;
+            }
+            level = 1;
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Entry with its 1-based rank, or null if the user has no score
+    public Entry get(long userId) {
+        lock.readLock().lock();
+        try {
+            Node node = nodes.get(userId);
+            if (node == null) {
+                return null;
+            }
+            int rank = 0;
+            Node x = head;
+            for (int i = level - 1; i >= 0; i--) {
+                while (x.next[i] != null && !before(node.score, node.userId, x.next[i].score, x.next[i].userId)) {
+                    rank += x.span[i];
+                    x = x.next[i];
+                }
+                if (x == node) {
+                    break;
+                }
+            }
+            return new Entry(node.userId, node.score, rank);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Entry> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> entries = new ArrayList<>(Math.min(limit, size));
+            Node x = head.next[0];
+            while (x != null && entries.size() < limit) {
+                entries.add(new Entry(x.userId, x.score, entries.size() + 1));
+                x = x.next[0];
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // True if entry a sorts strictly before entry b
+    private static boolean before(long aScore, long aUserId, long bScore, long bUserId) {
+        return aScore > bScore || (aScore == bScore && aUserId < bUserId);
+    }
+
+    private Node insert(long userId, long score) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] rank = new int[MAX_LEVEL];
+
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && before(x.next[i].score, x.next[i].userId, score, userId)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(userId, score, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+        size++;
+        return node;
+    }
+
+    private void unlink(Node node) {
+        Node[] update = new Node[MAX_LEVEL];
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && before(x.next[i].score, x.next[i].userId, node.score, node.userId)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+    }
+
+    private static int randomLevel() {
+        int nodeLevel = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (nodeLevel < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+}
@@ -1,5 +1,6 @@
 package com.college.campuscollab.service;
 
+import com.college.campuscollab.metrics.MetricsRegistry;
 import com.sendgrid.*;
 import com.sendgrid.helpers.mail.Mail;
 import com.sendgrid.helpers.mail.objects.Content;
@@ -21,6 +22,13 @@ public class SendGridEmailService {
     @Value("${sendgrid.from.name:StudentHub}")
     private String fromName;
 
+    private final MetricsRegistry.Family<MetricsRegistry.Timer> sendTimer;
+
+    public SendGridEmailService(MetricsRegistry metricsRegistry) {
+        this.sendTimer = metricsRegistry.timer("email_send_seconds",
+                "SendGrid API calls by outcome (success, failure)", "outcome");
+    }
+
     public void sendEmail(String toEmail, String subject, String body) throws IOException {
         Email from = new Email(fromEmail, fromName);
         Email to = new Email(toEmail);
@@ -29,6 +37,7 @@ public class SendGridEmailService {
 
         SendGrid sg = new SendGrid(sendGridApiKey);
         Request request = new Request();
+        long started = System.nanoTime();
 
         try {
             request.setMethod(Method.POST);
@@ -40,8 +49,10 @@ public class SendGridEmailService {
                 throw new IOException("Failed to send email. Status: " + response.getStatusCode());
             }
 
+            sendTimer.labels("success").record(System.nanoTime() - started);
             System.out.println("✅ Email sent successfully to: " + toEmail);
         } catch (IOException ex) {
+            sendTimer.labels("failure").record(System.nanoTime() - started);
             System.err.println("❌ Failed to send email to: " + toEmail);
             throw ex;
         }
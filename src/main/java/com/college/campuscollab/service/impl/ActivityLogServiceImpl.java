@@ -1,15 +1,19 @@
 package com.college.campuscollab.service.impl;
 
+import com.college.campuscollab.dto.ActivityLogCursorPage;
 import com.college.campuscollab.dto.ActivityLogDTO;
+import com.college.campuscollab.dto.LogCursor;
 import com.college.campuscollab.entity.ActivityLog;
 import com.college.campuscollab.entity.User;
 import com.college.campuscollab.repository.ActivityLogRepository;
+import com.college.campuscollab.service.ActivityLogCounters;
 import com.college.campuscollab.service.ActivityLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,7 +26,11 @@ import java.util.*;
 @Slf4j
 public class ActivityLogServiceImpl implements ActivityLogService {
 
+    // Upper bound for one cursor feed page
+    private static final int MAX_FEED_SIZE = 100;
+
     private final ActivityLogRepository activityLogRepository;
+    private final ActivityLogCounters activityLogCounters;
 
     @Override
     @Async
@@ -31,6 +39,7 @@ public class ActivityLogServiceImpl implements ActivityLogService {
         try {
             ActivityLog activityLog = ActivityLog.create(user, actionType, actionCategory, description);
             activityLogRepository.save(activityLog);
+            activityLogCounters.recordLogged(activityLog.getUserEmail(), activityLog.getActionCategory());
             log.info("Activity logged for user {}: {} - {}", user.getEmail(), actionType, description);
         } catch (Exception e) {
             log.error("Failed to log activity for user {}: {}", user.getEmail(), e.getMessage());
@@ -46,6 +55,7 @@ public class ActivityLogServiceImpl implements ActivityLogService {
             ActivityLog activityLog = ActivityLog.createForEntity(user, actionType, actionCategory,
                     description, entityType, entityId);
             activityLogRepository.save(activityLog);
+            activityLogCounters.recordLogged(activityLog.getUserEmail(), activityLog.getActionCategory());
             log.info("Entity activity logged for user {}: {} on {} {}",
                     user.getEmail(), actionType, entityType, entityId);
         } catch (Exception e) {
@@ -63,6 +73,7 @@ public class ActivityLogServiceImpl implements ActivityLogService {
             ActivityLog activityLog = ActivityLog.createForUpdate(user, actionType, actionCategory,
                     description, entityType, entityId, oldValue, newValue);
             activityLogRepository.save(activityLog);
+            activityLogCounters.recordLogged(activityLog.getUserEmail(), activityLog.getActionCategory());
             log.info("Update activity logged for user {}: {} on {} {}",
                     user.getEmail(), actionType, entityType, entityId);
         } catch (Exception e) {
@@ -80,6 +91,7 @@ public class ActivityLogServiceImpl implements ActivityLogService {
             activityLog.setIpAddress(ipAddress);
             activityLog.setUserAgent(userAgent);
             activityLogRepository.save(activityLog);
+            activityLogCounters.recordLogged(activityLog.getUserEmail(), activityLog.getActionCategory());
             log.info("Activity with context logged for user {}: {}", user.getEmail(), actionType);
         } catch (Exception e) {
             log.error("Failed to log activity with context for user {}: {}", user.getEmail(), e.getMessage());
@@ -89,37 +101,94 @@ public class ActivityLogServiceImpl implements ActivityLogService {
     @Override
     @Transactional(readOnly = true)
     public Page<ActivityLogDTO> getAllLogs(Pageable pageable) {
-        Page<ActivityLog> logs = activityLogRepository.findAllByOrderByTimestampDesc(pageable);
-        return logs.map(ActivityLogDTO::fromEntity);
+        return activityLogRepository.findAllByOrderByTimestampDesc(pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ActivityLogDTO> getLogsByUser(String userEmail, Pageable pageable) {
-        Page<ActivityLog> logs = activityLogRepository.findByUserEmailOrderByTimestampDesc(userEmail, pageable);
-        return logs.map(ActivityLogDTO::fromEntity);
+        return activityLogRepository.findByUserEmailOrderByTimestampDesc(userEmail, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ActivityLogDTO> getLogsByCategory(String category, Pageable pageable) {
-        Page<ActivityLog> logs = activityLogRepository.findByActionCategoryOrderByTimestampDesc(category, pageable);
-        return logs.map(ActivityLogDTO::fromEntity);
+        return activityLogRepository.findByActionCategoryOrderByTimestampDesc(category, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ActivityLogDTO> getLogsByDateRange(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
-        Page<ActivityLog> logs = activityLogRepository.findByTimestampBetweenOrderByTimestampDesc(
-                startDate, endDate, pageable);
-        return logs.map(ActivityLogDTO::fromEntity);
+        return activityLogRepository.findByTimestampBetweenOrderByTimestampDesc(startDate, endDate, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ActivityLogDTO> searchLogs(String searchTerm, Pageable pageable) {
-        Page<ActivityLog> logs = activityLogRepository.searchLogs(searchTerm, pageable);
-        return logs.map(ActivityLogDTO::fromEntity);
+        return activityLogRepository.searchLogs(searchTerm, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ActivityLogCursorPage getLogFeed(String cursor, int size, boolean includeTotal) {
+        LogCursor after = LogCursor.decode(cursor);
+        Slice<ActivityLogDTO> logs = activityLogRepository.findFeed(after.getTimestamp(), after.getId(), feedPage(size));
+        return toCursorPage(logs, includeTotal ? activityLogCounters.getTotal() : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ActivityLogCursorPage getLogFeedByUser(String userEmail, String cursor, int size, boolean includeTotal) {
+        LogCursor after = LogCursor.decode(cursor);
+        Slice<ActivityLogDTO> logs = activityLogRepository.findFeedByUserEmail(
+                userEmail, after.getTimestamp(), after.getId(), feedPage(size));
+        return toCursorPage(logs, includeTotal ? activityLogCounters.getUserTotal(userEmail) : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ActivityLogCursorPage getLogFeedByCategory(String category, String cursor, int size,
+            boolean includeTotal) {
+        LogCursor after = LogCursor.decode(cursor);
+        Slice<ActivityLogDTO> logs = activityLogRepository.findFeedByCategory(
+                category, after.getTimestamp(), after.getId(), feedPage(size));
+        return toCursorPage(logs, includeTotal ? activityLogCounters.getCategoryTotal(category) : null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ActivityLogCursorPage getLogFeedByDateRange(LocalDateTime startDate, LocalDateTime endDate,
+            String cursor, int size) {
+        LogCursor after = LogCursor.decode(cursor);
+        Slice<ActivityLogDTO> logs = activityLogRepository.findFeedByDateRange(
+                startDate, endDate, after.getTimestamp(), after.getId(), feedPage(size));
+        // No maintained counter for arbitrary ranges
+        return toCursorPage(logs, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ActivityLogCursorPage searchLogFeed(String searchTerm, String cursor, int size) {
+        LogCursor after = LogCursor.decode(cursor);
+        Slice<ActivityLogDTO> logs = activityLogRepository.searchFeed(
+                searchTerm, after.getTimestamp(), after.getId(), feedPage(size));
+        return toCursorPage(logs, null);
+    }
+
+    private Pageable feedPage(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, MAX_FEED_SIZE)));
+    }
+
+    private ActivityLogCursorPage toCursorPage(Slice<ActivityLogDTO> logs, Long total) {
+        List<ActivityLogDTO> content = logs.getContent();
+
+        String nextCursor = null;
+        if (logs.hasNext() && !content.isEmpty()) {
+            ActivityLogDTO last = content.get(content.size() - 1);
+            nextCursor = new LogCursor(last.getSortTimestamp(), last.getId()).encode();
+        }
+
+        return new ActivityLogCursorPage(content, nextCursor, logs.hasNext(), content.size(), total);
     }
 
     @Override
@@ -190,6 +259,7 @@ public class ActivityLogServiceImpl implements ActivityLogService {
     public long clearAllLogs() {
         long count = activityLogRepository.count();
         activityLogRepository.deleteAll();
+        activityLogCounters.invalidate();
         log.info("All activity logs cleared. Total deleted: {}", count);
         return count;
     }
@@ -1,12 +1,20 @@
 package com.college.campuscollab.service.impl;
 
 import com.college.campuscollab.dto.ContributionResponse;
+import com.college.campuscollab.dto.PendingRequestDTO;
 import com.college.campuscollab.entity.ContributionRequest;
 import com.college.campuscollab.entity.Project;
 import com.college.campuscollab.entity.RequestStatus;
 import com.college.campuscollab.entity.User;
+import com.college.campuscollab.event.ContributionRequestCreatedEvent;
+import com.college.campuscollab.event.ContributionRequestStatusChangedEvent;
+import com.college.campuscollab.event.DomainEventBus;
 import com.college.campuscollab.repository.ContributionRequestRepository;
+import com.college.campuscollab.service.ContributionAccessIndex;
 import com.college.campuscollab.service.ContributionRequestService;
+import com.college.campuscollab.service.OwnerInboxCounters;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -16,20 +24,59 @@ import java.util.List;
 public class ContributionRequestServiceImpl implements ContributionRequestService {
 
     private final ContributionRequestRepository repository;
+    private final DomainEventBus eventBus;
+    private final ContributionAccessIndex accessIndex;
+    private final OwnerInboxCounters inboxCounters;
 
-    public ContributionRequestServiceImpl(ContributionRequestRepository repository) {
+    public ContributionRequestServiceImpl(ContributionRequestRepository repository,
+            DomainEventBus eventBus,
+            ContributionAccessIndex accessIndex,
+            OwnerInboxCounters inboxCounters) {
         this.repository = repository;
+        this.eventBus = eventBus;
+        this.accessIndex = accessIndex;
+        this.inboxCounters = inboxCounters;
     }
 
     @Override
-    public ContributionRequest requestContribution(Project project, User user, String message) {
+    public RequestResult requestContribution(Project project, User user, String message) {
+        // One request per user and project: pending/approved ones are returned as is,
+        // a rejected one goes back to pending with the new message
+        ContributionRequest existing = repository.findByProjectAndRequestedBy(project, user);
+        if (existing != null) {
+            return reRequest(existing, message);
+        }
+
         ContributionRequest request = new ContributionRequest();
         request.setProject(project);
         request.setRequestedBy(user);
         request.setMessage(message);
         request.setStatus(RequestStatus.PENDING);
         request.setRequestedAt(LocalDateTime.now());
-        return repository.save(request);
+
+        ContributionRequest saved;
+        try {
+            saved = repository.save(request);
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent request for the same pair
+            ContributionRequest winner = repository.findByProjectAndRequestedBy(project, user);
+            if (winner == null) {
+                throw e;
+            }
+            return new RequestResult(winner, RequestOutcome.UNCHANGED);
+        }
+        accessIndex.record(project.getId(), user.getId(), saved.getId(), RequestStatus.PENDING);
+        eventBus.publish(ContributionRequestCreatedEvent.of(saved));
+        return new RequestResult(saved, RequestOutcome.CREATED);
+    }
+
+    private RequestResult reRequest(ContributionRequest existing, String message) {
+        if (existing.getStatus() != RequestStatus.REJECTED) {
+            return new RequestResult(existing, RequestOutcome.UNCHANGED);
+        }
+        existing.setMessage(message);
+        existing.setRequestedAt(LocalDateTime.now());
+        return new RequestResult(updateStatus(existing, RequestStatus.PENDING), RequestOutcome.REOPENED);
     }
 
     @Override
@@ -46,16 +93,23 @@ public class ContributionRequestServiceImpl implements ContributionRequestServic
     public ContributionRequest approveRequest(Long requestId) {
         ContributionRequest request = repository.findById(requestId)
                 .orElseThrow(() -> new RuntimeException("Contribution request not found"));
-        request.setStatus(RequestStatus.APPROVED);
-        return repository.save(request);
+        return updateStatus(request, RequestStatus.APPROVED);
     }
 
     @Override
     public ContributionRequest rejectRequest(Long requestId) {
         ContributionRequest request = repository.findById(requestId)
                 .orElseThrow(() -> new RuntimeException("Contribution request not found"));
-        request.setStatus(RequestStatus.REJECTED);
-        return repository.save(request);
+        return updateStatus(request, RequestStatus.REJECTED);
+    }
+
+    private ContributionRequest updateStatus(ContributionRequest request, RequestStatus newStatus) {
+        RequestStatus oldStatus = request.getStatus();
+        request.setStatus(newStatus);
+        ContributionRequest saved = repository.save(request);
+        accessIndex.record(saved.getProject().getId(), saved.getRequestedBy().getId(), saved.getId(), newStatus);
+        eventBus.publish(ContributionRequestStatusChangedEvent.of(saved, oldStatus));
+        return saved;
     }
 
     @Override
@@ -74,17 +128,19 @@ public class ContributionRequestServiceImpl implements ContributionRequestServic
     }
 
     @Override
-    public boolean hasDownloadAccess(Long projectId, User user) {
-        // Find the request for this project and user
-        ContributionRequest request = repository.findByProjectAndRequestedBy(
-                new Project() {
-                    {
-                        setId(projectId);
-                    }
-                },
-                user);
+    public List<PendingRequestDTO> getPendingInbox(Long ownerId, int page, int size) {
+        return repository.findInboxByOwnerId(ownerId, RequestStatus.PENDING, PageRequest.of(page, size));
+    }
+
+    @Override
+    public long countPendingInbox(Long ownerId) {
+        return inboxCounters.getPending(ownerId);
+    }
 
+    @Override
+    public boolean hasDownloadAccess(Long projectId, User user) {
         // User has access if they have an approved request
-        return request != null && request.getStatus() == RequestStatus.APPROVED;
+        ContributionAccessIndex.Grant grant = accessIndex.grantFor(projectId, user.getId());
+        return grant != null && grant.status() == RequestStatus.APPROVED;
     }
 }
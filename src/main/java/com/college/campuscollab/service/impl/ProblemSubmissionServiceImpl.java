@@ -1,25 +1,52 @@
 package com.college.campuscollab.service.impl;
 
+import com.college.campuscollab.dto.ProblemActivityDTO;
+import com.college.campuscollab.dto.ProblemHistoryDayDTO;
+import com.college.campuscollab.dto.ProblemLeaderboardEntryDTO;
+import com.college.campuscollab.dto.ProblemPlatformStatDTO;
 import com.college.campuscollab.entity.ProblemSubmission;
 import com.college.campuscollab.entity.User;
+import com.college.campuscollab.event.DomainEventBus;
+import com.college.campuscollab.event.ProblemSubmittedEvent;
 import com.college.campuscollab.repository.ProblemSubmissionRepository;
+import com.college.campuscollab.repository.UserRepository;
+import com.college.campuscollab.service.ProblemActivityRollup;
+import com.college.campuscollab.service.ProblemLinkIndex;
+import com.college.campuscollab.service.ProblemStatsEngine;
 import com.college.campuscollab.service.ProblemSubmissionService;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class ProblemSubmissionServiceImpl
         implements ProblemSubmissionService {
 
     private final ProblemSubmissionRepository repository;
+    private final ProblemActivityRollup activityRollup;
+    private final ProblemStatsEngine statsEngine;
+    private final ProblemLinkIndex linkIndex;
+    private final UserRepository userRepository;
+    private final DomainEventBus eventBus;
 
     public ProblemSubmissionServiceImpl(
-            ProblemSubmissionRepository repository) {
+            ProblemSubmissionRepository repository,
+            ProblemActivityRollup activityRollup,
+            ProblemStatsEngine statsEngine,
+            ProblemLinkIndex linkIndex,
+            UserRepository userRepository,
+            DomainEventBus eventBus) {
         this.repository = repository;
+        this.activityRollup = activityRollup;
+        this.statsEngine = statsEngine;
+        this.linkIndex = linkIndex;
+        this.userRepository = userRepository;
+        this.eventBus = eventBus;
     }
 
     @Override
@@ -36,26 +63,69 @@ public class ProblemSubmissionServiceImpl
             default -> submission.setPoints(0);
         }
 
-        return repository.save(submission);
+        // The same problem submitted again returns the original submission without new points
+        AtomicReference<ProblemSubmission> saved = new AtomicReference<>();
+        Long id = linkIndex.claim(user.getId(), submission.getProblemLink(), () -> {
+            saved.set(repository.save(submission));
+            return saved.get().getId();
+        });
+
+        ProblemSubmission created = saved.get();
+        if (created == null) {
+            return repository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Submission not found with ID: " + id));
+        }
+
+        eventBus.publish(new ProblemSubmittedEvent(id, user.getId(), created.getSubmissionDate(),
+                created.getPlatform(), created.getDifficulty(), created.getPoints()));
+        return created;
     }
 
     @Override
-    public Map<String, Integer> getLeaderboard(
-            LocalDate start, LocalDate end) {
+    public List<ProblemLeaderboardEntryDTO> getLeaderboard(
+            LocalDate start, LocalDate end, int limit) {
 
-        List<ProblemSubmission> submissions =
-                repository.findBySubmissionDateBetween(start, end);
+        // The last 31 days come from the daily buckets, older ranges from the column store
+        List<ProblemLeaderboardEntryDTO> ranked = activityRollup.covers(start, end)
+                ? activityRollup.getLeaderboard(start, end, limit)
+                : statsEngine.getLeaderboard(start, end, limit);
 
-        Map<String, Integer> leaderboard = new HashMap<>();
+        // Only the returned rows need a name
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(
+                ranked.stream().map(ProblemLeaderboardEntryDTO::getUserId).toList())) {
+            users.put(user.getId(), user);
+        }
 
-        for (ProblemSubmission ps : submissions) {
-            String email = ps.getUser().getEmail();
-            leaderboard.put(
-                    email,
-                    leaderboard.getOrDefault(email, 0) + ps.getPoints()
-            );
+        List<ProblemLeaderboardEntryDTO> leaderboard = new ArrayList<>(ranked.size());
+        for (ProblemLeaderboardEntryDTO entry : ranked) {
+            User user = users.get(entry.getUserId());
+            if (user == null) {
+                continue;
+            }
+            entry.setEmail(user.getEmail());
+            entry.setFullName(user.getFullName());
+            entry.setRank(leaderboard.size() + 1);
+            leaderboard.add(entry);
         }
 
         return leaderboard;
     }
+
+    @Override
+    public ProblemActivityDTO getActivity(User user) {
+        return activityRollup.getActivity(user.getId());
+    }
+
+    @Override
+    public List<ProblemHistoryDayDTO> getHistory(
+            User user, LocalDate start, LocalDate end) {
+        return statsEngine.getHistory(user.getId(), start, end);
+    }
+
+    @Override
+    public List<ProblemPlatformStatDTO> getPlatformBreakdown(
+            User user, LocalDate start, LocalDate end) {
+        return statsEngine.getPlatformBreakdown(user != null ? user.getId() : null, start, end);
+    }
 }
@@ -1,20 +1,28 @@
 package com.college.campuscollab.service.impl;
 
 import com.college.campuscollab.dto.ProjectResponse;
+import com.college.campuscollab.dto.ProjectSummaryDTO;
 import com.college.campuscollab.dto.ProjectUploadRequest;
 import com.college.campuscollab.entity.Project;
 import com.college.campuscollab.entity.ProjectLike;
 import com.college.campuscollab.entity.User;
+import com.college.campuscollab.event.DomainEventBus;
+import com.college.campuscollab.event.ProjectLikedEvent;
+import com.college.campuscollab.event.ProjectUploadedEvent;
 import com.college.campuscollab.repository.ProjectLikeRepository;
 import com.college.campuscollab.repository.ProjectRepository;
 import com.college.campuscollab.service.ProjectService;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,13 +34,16 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
     private final FileStorageServiceImpl fileStorageService;
     private final ProjectLikeRepository projectLikeRepository;
+    private final DomainEventBus eventBus;
 
     public ProjectServiceImpl(ProjectRepository projectRepository,
             FileStorageServiceImpl fileStorageService,
-            ProjectLikeRepository projectLikeRepository) {
+            ProjectLikeRepository projectLikeRepository,
+            DomainEventBus eventBus) {
         this.projectRepository = projectRepository;
         this.fileStorageService = fileStorageService;
         this.projectLikeRepository = projectLikeRepository;
+        this.eventBus = eventBus;
     }
 
     @Override
@@ -63,16 +74,33 @@ public class ProjectServiceImpl implements ProjectService {
         project.setScreenshots(screenshotPaths);
 
         projectRepository.save(project);
+        eventBus.publish(new ProjectUploadedEvent(project.getId(), user.getId()));
     }
 
     @Override
-    public List<Project> getAllProjects() {
-        return projectRepository.findAll();
+    public Page<ProjectSummaryDTO> getProjectSummaries(int page, int size) {
+        return withScreenshots(projectRepository.findSummaries(PageRequest.of(page, size)));
     }
 
     @Override
-    public List<Project> getProjectsByOwner(User owner) {
-        return projectRepository.findByOwner(owner);
+    public Page<ProjectSummaryDTO> getProjectSummariesByOwner(Long ownerId, int page, int size) {
+        return withScreenshots(projectRepository.findSummariesByOwnerId(ownerId, PageRequest.of(page, size)));
+    }
+
+    // One query for the screenshots of the whole page instead of one per project
+    private Page<ProjectSummaryDTO> withScreenshots(Page<ProjectSummaryDTO> page) {
+        if (page.isEmpty()) {
+            return page;
+        }
+        Map<Long, ProjectSummaryDTO> byId = new HashMap<>();
+        for (ProjectSummaryDTO summary : page) {
+            byId.put(summary.getId(), summary);
+            summary.setScreenshots(new ArrayList<>());
+        }
+        for (Object[] row : projectRepository.findScreenshotsByProjectIds(byId.keySet())) {
+            byId.get((Long) row[0]).getScreenshots().add((String) row[1]);
+        }
+        return page;
     }
 
     @Override
@@ -148,6 +176,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         projectRepository.save(project);
+        eventBus.publish(new ProjectLikedEvent(projectId, user.getId(), !alreadyLiked, project.getLikeCount()));
     }
 
     @Override
@@ -1,12 +1,21 @@
 package com.college.campuscollab.service.impl;
 
+import com.college.campuscollab.dto.QuizQuestionStatDTO;
+import com.college.campuscollab.dto.QuizRankDTO;
+import com.college.campuscollab.dto.QuizStatsDTO;
 import com.college.campuscollab.entity.*;
+import com.college.campuscollab.event.DomainEventBus;
+import com.college.campuscollab.event.QuizSubmittedEvent;
 import com.college.campuscollab.repository.*;
+import com.college.campuscollab.service.QuizAnalyticsService;
+import com.college.campuscollab.service.QuizAnswerKey;
+import com.college.campuscollab.service.QuizCatalog;
+import com.college.campuscollab.service.QuizLeaderboardService;
 import com.college.campuscollab.service.QuizService;
+import com.college.campuscollab.service.QuizSubmissionWriter;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -14,12 +23,24 @@ import java.util.Map;
 public class QuizServiceImpl implements QuizService {
 
     private final QuizRepository quizRepository;
-    private final QuizSubmissionRepository submissionRepository;
+    private final QuizCatalog quizCatalog;
+    private final QuizSubmissionWriter submissionWriter;
+    private final QuizLeaderboardService quizLeaderboardService;
+    private final QuizAnalyticsService quizAnalyticsService;
+    private final DomainEventBus eventBus;
 
     public QuizServiceImpl(QuizRepository quizRepository,
-                           QuizSubmissionRepository submissionRepository) {
+                           QuizCatalog quizCatalog,
+                           QuizSubmissionWriter submissionWriter,
+                           QuizLeaderboardService quizLeaderboardService,
+                           QuizAnalyticsService quizAnalyticsService,
+                           DomainEventBus eventBus) {
         this.quizRepository = quizRepository;
-        this.submissionRepository = submissionRepository;
+        this.quizCatalog = quizCatalog;
+        this.submissionWriter = submissionWriter;
+        this.quizLeaderboardService = quizLeaderboardService;
+        this.quizAnalyticsService = quizAnalyticsService;
+        this.eventBus = eventBus;
     }
 
     @Override
@@ -33,7 +54,9 @@ public class QuizServiceImpl implements QuizService {
             }
         }
 
-        return quizRepository.save(quiz);
+        Quiz saved = quizRepository.save(quiz);
+        quizCatalog.register(saved);
+        return saved;
     }
 
 
@@ -42,44 +65,39 @@ public class QuizServiceImpl implements QuizService {
                           Map<Long, String> answers,
                           User user) {
 
-        Quiz quiz = quizRepository.findById(quizId).orElseThrow();
-        int score = 0;
+        // Scored against the cached answer key; the quiz itself is not loaded
+        QuizAnswerKey answerKey = quizCatalog.getAnswerKey(quizId);
+        long[] correctMask = answerKey.correctMask(answers);
+        int score = QuizAnswerKey.countCorrect(correctMask);
 
-        for (QuizQuestion q : quiz.getQuestions()) {
-
-            //Get submitted answer for this question
-            String submitted = answers.get(q.getId());
-            if (submitted != null &&
-                    q.getCorrectOption() != null &&
-                    q.getCorrectOption()
-                            .trim()
-                            .equalsIgnoreCase(submitted.trim())) {
-
-                score++;
-            }
-        }
-
-        QuizSubmission submission = new QuizSubmission();
-        submission.setQuiz(quiz);
-        submission.setUser(user);
-        submission.setScore(score);
-
-        submissionRepository.save(submission);
+        // Persisted by the group-commit writer; the score is returned right away and
+        // the leaderboards only hear about the attempt once its row is committed
+        QuizSubmittedEvent event = new QuizSubmittedEvent(quizId, user.getId(), user.getEmail(), score, correctMask);
+        submissionWriter.enqueue(quizId, user.getId(), score, () -> eventBus.publish(event));
         return score;
     }
     @Override
-    public Map<String, Integer> getQuizLeaderboard() {
+    public Map<String, Long> getQuizLeaderboard(int limit) {
+        return quizLeaderboardService.getTop(limit);
+    }
 
-        Map<String, Integer> leaderboard = new LinkedHashMap<>();
+    @Override
+    public QuizRankDTO getMyQuizRank(User user) {
+        return quizLeaderboardService.getRank(user.getId(), user.getEmail());
+    }
 
-        List<Object[]> results = submissionRepository.getQuizLeaderboard();
+    @Override
+    public Map<String, Long> getQuizResultsLeaderboard(Long quizId, int limit) {
+        return quizAnalyticsService.getLeaderboard(quizId, limit);
+    }
 
-        for (Object[] row : results) {
-            String email = (String) row[0];
-            Integer totalScore = ((Long) row[1]).intValue();
-            leaderboard.put(email, totalScore);
-        }
+    @Override
+    public QuizStatsDTO getQuizStats(Long quizId) {
+        return quizAnalyticsService.getStats(quizId);
+    }
 
-        return leaderboard;
+    @Override
+    public List<QuizQuestionStatDTO> getQuestionStats(Long quizId) {
+        return quizAnalyticsService.getQuestionStats(quizId);
     }
 }
@@ -6,10 +6,14 @@ import com.college.campuscollab.dto.UserProfileDTO;
 import com.college.campuscollab.entity.RequestStatus;
 import com.college.campuscollab.entity.Role;
 import com.college.campuscollab.entity.User;
+import com.college.campuscollab.event.DomainEventBus;
+import com.college.campuscollab.event.UserRegisteredEvent;
+import com.college.campuscollab.event.UserRoleChangedEvent;
 import com.college.campuscollab.repository.ContributionRequestRepository;
 import com.college.campuscollab.repository.ProjectRepository;
 import com.college.campuscollab.repository.UserRepository;
 import com.college.campuscollab.service.ActivityLogService;
+import com.college.campuscollab.service.OwnerInboxCounters;
 import com.college.campuscollab.service.UserService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -22,17 +26,23 @@ public class UserServiceImpl implements UserService {
     private final ProjectRepository projectRepository;
     private final ContributionRequestRepository contributionRequestRepository;
     private final ActivityLogService activityLogService;
+    private final DomainEventBus eventBus;
+    private final OwnerInboxCounters inboxCounters;
 
     public UserServiceImpl(UserRepository userRepository,
             PasswordEncoder passwordEncoder,
             ProjectRepository projectRepository,
             ContributionRequestRepository contributionRequestRepository,
-            ActivityLogService activityLogService) {
+            ActivityLogService activityLogService,
+            DomainEventBus eventBus,
+            OwnerInboxCounters inboxCounters) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.projectRepository = projectRepository;
         this.contributionRequestRepository = contributionRequestRepository;
         this.activityLogService = activityLogService;
+        this.eventBus = eventBus;
+        this.inboxCounters = inboxCounters;
     }
 
     @Override
@@ -62,6 +72,7 @@ public class UserServiceImpl implements UserService {
         }
 
         userRepository.save(user);
+        eventBus.publish(new UserRegisteredEvent(user.getId(), user.getRole()));
         return user;
     }
 
@@ -86,6 +97,7 @@ public class UserServiceImpl implements UserService {
         admin.setSemester(0);
 
         userRepository.save(admin);
+        eventBus.publish(new UserRegisteredEvent(admin.getId(), admin.getRole()));
         return admin;
     }
 
@@ -106,21 +118,14 @@ public class UserServiceImpl implements UserService {
         User user = getUserByEmail(email);
 
         // Count projects uploaded by user
-        int projectsUploaded = projectRepository.findByOwner(user).size();
+        int projectsUploaded = (int) projectRepository.countByOwner(user);
 
         // Count approved contribution requests (collaborations)
         int projectsCollaborated = (int) contributionRequestRepository
-                .findByRequestedBy(user)
-                .stream()
-                .filter(req -> req.getStatus() == RequestStatus.APPROVED)
-                .count();
-
-        // Count pending requests for user's projects
-        int pendingRequests = (int) projectRepository.findByOwner(user)
-                .stream()
-                .flatMap(project -> contributionRequestRepository.findByProject(project).stream())
-                .filter(req -> req.getStatus() == RequestStatus.PENDING)
-                .count();
+                .countByRequestedByAndStatus(user, RequestStatus.APPROVED);
+
+        // Pending requests for user's projects, from the inbox counter
+        int pendingRequests = (int) inboxCounters.getPending(user.getId());
 
         UserProfileDTO profileDTO = new UserProfileDTO();
         profileDTO.setId(user.getId());
@@ -141,6 +146,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public User updateUserProfile(String email, UpdateProfileRequest request) {
         User user = getUserByEmail(email);
+        Role oldRole = null;
 
         // Build description of changes for activity log
         StringBuilder changesDescription = new StringBuilder("Updated profile: ");
@@ -187,7 +193,7 @@ public class UserServiceImpl implements UserService {
             user.setSemester(request.getSemester());
 
             // Update role based on semester
-            Role oldRole = user.getRole();
+            oldRole = user.getRole();
             if (request.getSemester() >= 5) {
                 user.setRole(Role.SENIOR);
             } else {
@@ -204,6 +210,10 @@ public class UserServiceImpl implements UserService {
 
         User updatedUser = userRepository.save(user);
 
+        if (oldRole != null && oldRole != updatedUser.getRole()) {
+            eventBus.publish(new UserRoleChangedEvent(updatedUser.getId(), oldRole, updatedUser.getRole()));
+        }
+
         // Log the activity if there were any changes
         if (hasChanges) {
             // Remove trailing comma and space
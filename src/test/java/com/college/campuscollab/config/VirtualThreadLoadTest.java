@@ -0,0 +1,112 @@
+package com.college.campuscollab.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Throughput of 2,000 concurrent requests that each block for one second (standing
+ * in for a mail send or a slow query), with Tomcat on its default 200-thread
+ * platform pool and then on virtual threads.
+ *
+ * Starts a bare web context, so no database is needed:
+ *
+ * mvn test -Dtest=VirtualThreadLoadTest -Dloadtest=true
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class VirtualThreadLoadTest {
+
+    private static final int REQUESTS = 2_000;
+    private static final long BLOCK_MILLIS = 1_000;
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({ ServletWebServerFactoryAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class })
+    @RestController
+    static class SlowApp {
+
+        @GetMapping("/slow")
+        String slow() throws InterruptedException {
+            Thread.sleep(BLOCK_MILLIS);
+            return Thread.currentThread().isVirtual() ? "virtual" : "platform";
+        }
+    }
+
+    @Test
+    void virtualThreadsServeSlowRequestsFaster() throws Exception {
+        double platform = run(false);
+        double virtual = run(true);
+
+        System.out.printf("%d requests blocking %d ms: platform %.0f req/s, virtual %.0f req/s%n",
+                REQUESTS, BLOCK_MILLIS, platform, virtual);
+        assertTrue(virtual > platform * 2,
+                "expected virtual threads to at least double throughput");
+    }
+
+    private double run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SlowApp.class)
+                .run("--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--spring.threads.virtual.enabled=" + virtualThreads);
+                ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientThreads)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/slow"))
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+
+            // Warm up the JIT and open the connections before timing
+            fire(client, request, REQUESTS, virtualThreads);
+
+            long started = System.nanoTime();
+            fire(client, request, REQUESTS, virtualThreads);
+            double seconds = (System.nanoTime() - started) / 1e9;
+            return REQUESTS / seconds;
+        }
+    }
+
+    private static void fire(HttpClient client, HttpRequest request, int count, boolean virtualThreads) {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            HttpResponse<String> result = response.join();
+            assertEquals(200, result.statusCode());
+            assertEquals(virtualThreads ? "virtual" : "platform", result.body());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.college.campuscollab.controller;
+
+import com.college.campuscollab.dto.ContributionResponse;
+import com.college.campuscollab.entity.ContributionRequest;
+import com.college.campuscollab.entity.Project;
+import com.college.campuscollab.entity.User;
+import com.college.campuscollab.service.ActivityLogService;
+import com.college.campuscollab.service.ContributionAccessIndex;
+import com.college.campuscollab.service.ContributionRequestService;
+import com.college.campuscollab.service.ContributionRequestService.RequestOutcome;
+import com.college.campuscollab.service.ContributionRequestService.RequestResult;
+import com.college.campuscollab.service.ProjectService;
+import com.college.campuscollab.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Repeating a contribution request: only a new request is a 201 with a
+ * CONTRIBUTION_REQUEST_CREATED log entry; an existing one comes back as 200.
+ */
+class ContributionControllerTest {
+
+    private final ContributionRequestService contributionService = mock(ContributionRequestService.class);
+    private final ActivityLogService activityLogService = mock(ActivityLogService.class);
+    private final ContributionRequest request = new ContributionRequest();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("student@college.edu");
+        user.setFullName("Student");
+        UserService userService = mock(UserService.class);
+        when(userService.getUserByEmail(anyString())).thenReturn(user);
+
+        Project project = new Project();
+        project.setId(5L);
+        project.setProjectName("Campus App");
+        ProjectService projectService = mock(ProjectService.class);
+        when(projectService.getProjectEntityById(5L)).thenReturn(project);
+
+        request.setId(9L);
+        when(contributionService.convertToResponse(any())).thenReturn(new ContributionResponse());
+
+        UserDetails principal = org.springframework.security.core.userdetails.User
+                .withUsername(user.getEmail()).password("unused").roles("STUDENT").build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ContributionController(contributionService, projectService,
+                        userService, activityLogService, mock(ContributionAccessIndex.class)))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void newRequestIsCreated() throws Exception {
+        when(contributionService.requestContribution(any(), any(), any()))
+                .thenReturn(new RequestResult(request, RequestOutcome.CREATED));
+
+        submit().andExpect(status().isCreated());
+
+        verify(activityLogService).logEntityActivity(any(), eq("CONTRIBUTION_REQUEST_CREATED"), anyString(),
+                anyString(), anyString(), eq(9L));
+    }
+
+    @Test
+    void existingRequestIsReturnedWithoutLogging() throws Exception {
+        when(contributionService.requestContribution(any(), any(), any()))
+                .thenReturn(new RequestResult(request, RequestOutcome.UNCHANGED));
+
+        submit().andExpect(status().isOk());
+
+        verify(activityLogService, never()).logEntityActivity(any(), anyString(), anyString(), anyString(),
+                anyString(), anyLong());
+    }
+
+    private ResultActions submit() throws Exception {
+        return mockMvc.perform(post("/api/contributions/5")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"message\":\"I can help with the backend\"}"));
+    }
+}
@@ -0,0 +1,45 @@
+package com.college.campuscollab.controller;
+
+import com.college.campuscollab.service.ProblemSubmissionService;
+import com.college.campuscollab.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Date ranges the statistics endpoints refuse must come back as 400 with a
+ * message, not as a 500.
+ */
+class ProblemSubmissionControllerTest {
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new ProblemSubmissionController(mock(ProblemSubmissionService.class),
+                    mock(UserService.class)))
+            .setControllerAdvice(new ApiExceptionHandler())
+            .build();
+
+    @Test
+    void reversedRangeIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/problems/platforms").param("from", "2024-02-01").param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("'to' must not be before 'from'"));
+    }
+
+    @Test
+    void rangeOverFiveYearsIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/problems/leaderboard").param("from", "2015-01-01").param("to", "2024-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Date range must not exceed 5 years"));
+    }
+
+    @Test
+    void validRangeIsOk() throws Exception {
+        mockMvc.perform(get("/api/problems/platforms").param("from", "2024-01-01").param("to", "2024-02-01"))
+                .andExpect(status().isOk());
+    }
+}
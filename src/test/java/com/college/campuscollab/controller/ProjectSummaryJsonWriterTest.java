@@ -0,0 +1,103 @@
+package com.college.campuscollab.controller;
+
+import com.college.campuscollab.dto.ProjectSummaryDTO;
+import com.college.campuscollab.entity.Project;
+import com.college.campuscollab.entity.Role;
+import com.college.campuscollab.entity.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Legacy /api/projects payload before (Jackson over the entities) and after
+ * (streamed summaries) for the same 2,000 projects: the summaries must be
+ * smaller, keep the legacy field names and no longer carry the password hash.
+ * Serialization time is measured by ProjectSummaryJsonBenchmark under src/jmh.
+ */
+class ProjectSummaryJsonWriterTest {
+
+    private static final int PROJECTS = 2_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void summariesAreSmallerAndOmitThePasswordHash() throws Exception {
+        List<Project> entities = new ArrayList<>(PROJECTS);
+        List<ProjectSummaryDTO> summaries = new ArrayList<>(PROJECTS);
+        for (int i = 0; i < PROJECTS; i++) {
+            Project project = project(i);
+            entities.add(project);
+            summaries.add(summary(project));
+        }
+        ProjectSummaryJsonWriter writer = new ProjectSummaryJsonWriter(objectMapper.getFactory());
+
+        byte[] before = objectMapper.writeValueAsBytes(entities);
+        ByteArrayOutputStream after = new ByteArrayOutputStream();
+        writer.write(summaries, after);
+
+        String json = after.toString();
+        assertFalse(json.contains("hash-"), "password hash leaked into the payload");
+        assertTrue(after.size() < before.length);
+
+        JsonNode first = objectMapper.readTree(json).get(0);
+        assertEquals(PROJECTS, objectMapper.readTree(json).size());
+        assertEquals("Project 0", first.get("projectName").asText());
+        assertEquals("Owner 0", first.get("owner").get("fullName").asText());
+        assertEquals(2, first.get("screenshots").size());
+        assertEquals(entities.get(0).getCreatedAt().toString(), first.get("createdAt").asText());
+    }
+
+    private static Project project(int i) {
+        User owner = new User();
+        owner.setId((long) i % 100);
+        owner.setFullName("Owner " + i % 100);
+        owner.setEmail("owner" + i % 100 + "@college.edu");
+        owner.setRollNumber("R" + i % 100);
+        owner.setCourse("BCA");
+        owner.setSemester(5);
+        owner.setPassword("hash-$2a$10$abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTU");
+        owner.setRole(Role.STUDENT);
+        owner.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0, 0));
+        owner.setLastLoginAt(LocalDateTime.of(2024, 6, 1, 9, 0, 0));
+
+        Project project = new Project();
+        project.setId((long) i);
+        project.setProjectName("Project " + i);
+        project.setTeamLeaderName("Leader " + i);
+        project.setCourse("BCA");
+        project.setSemester(5);
+        project.setTechStack("Java, Spring Boot, React");
+        project.setDescription("A campus collaboration project used to measure serialization cost. ".repeat(4));
+        project.setLiveLink("https://example.org/live/" + i);
+        project.setCodeLink("https://github.com/example/project-" + i);
+        project.setStatus("APPROVED");
+        project.setScreenshots(List.of("shot-" + i + "-a.png", "shot-" + i + "-b.png"));
+        project.setOwner(owner);
+        project.setViewCount(i * 3);
+        project.setLikeCount(i);
+        project.setCreatedAt(LocalDateTime.of(2024, 3, 1, 12, 30, 15).plusMinutes(i));
+        return project;
+    }
+
+    private static ProjectSummaryDTO summary(Project project) {
+        ProjectSummaryDTO summary = new ProjectSummaryDTO(project.getId(), project.getProjectName(),
+                project.getTeamLeaderName(), project.getCourse(), project.getSemester(), project.getTechStack(),
+                project.getDescription(), project.getLiveLink(), project.getCodeLink(), project.getStatus(),
+                project.getViewCount(), project.getLikeCount(), project.getCreatedAt(),
+                project.getOwner().getId(), project.getOwner().getFullName(), project.getOwner().getEmail());
+        summary.setScreenshots(project.getScreenshots());
+        return summary;
+    }
+}
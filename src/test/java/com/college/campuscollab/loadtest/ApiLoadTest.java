@@ -0,0 +1,327 @@
+package com.college.campuscollab.loadtest;
+
+import com.college.campuscollab.CampusCollabPlatformApplication;
+import com.college.campuscollab.metrics.MetricsRegistry;
+import com.college.campuscollab.security.jwt.JwtUtil;
+import com.college.campuscollab.service.SendGridEmailService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * End-to-end throughput of the real application against an in-memory H2
+ * database in MySQL mode, with SendGrid replaced by a fake that only waits.
+ *
+ * The first boot creates the schema and seeds it (10k students, 50k projects,
+ * 1M activity logs by default); the second boot is the measured one, so the
+ * in-memory indexes are rebuilt from the seeded tables as in production.
+ * Each scenario is warmed up, then driven by virtual-thread clients with a
+ * fixed concurrency. Latency percentiles and throughput are printed and
+ * written to target/loadtest/ as JSON to compare release over release; the
+ * last recorded run is benchmarks/api-loadtest.json.
+ *
+ * mvn -Ploadtest test -Dtest=ApiLoadTest -Dloadtest=true
+ *
+ * Sizes can be lowered for a quick run, e.g. -Dloadtest.users=1000
+ * -Dloadtest.projects=5000 -Dloadtest.activity-logs=100000 -Dloadtest.requests=1000
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ApiLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 10_000);
+    private static final int PROJECTS = Integer.getInteger("loadtest.projects", 50_000);
+    private static final int ACTIVITY_LOGS = Integer.getInteger("loadtest.activity-logs", 1_000_000);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 5_000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 64);
+
+    // Typical SendGrid API round trip
+    private static final long FAKE_EMAIL_MILLIS = 150;
+
+    private static final String[] SEARCH_TERMS = { "library", "portal", "react", "python", "hostel", "spring",
+            "tracker", "flutter" };
+
+    record ScenarioResult(String name, int requests, int concurrency, double throughputPerSecond,
+            double p50Millis, double p90Millis, double p99Millis, double maxMillis, Map<Integer, Long> statuses,
+            long failures) {
+    }
+
+    // Registered as a source rather than a @Configuration so component scanning never picks it up
+    static class LoadTestBeans {
+
+        static final AtomicLong EMAILS_SENT = new AtomicLong();
+
+        @Bean
+        @Primary
+        SendGridEmailService fakeSendGridEmailService(MetricsRegistry metricsRegistry) {
+            return new SendGridEmailService(metricsRegistry) {
+                @Override
+                public void sendEmail(String toEmail, String subject, String body) {
+                    try {
+                        Thread.sleep(FAKE_EMAIL_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    EMAILS_SENT.incrementAndGet();
+                }
+            };
+        }
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpClient client;
+    private String baseUrl;
+
+    @Test
+    void scenarios() throws Exception {
+        LoadTestData.Seeded seeded;
+        long seedStarted = System.nanoTime();
+        try (ConfigurableApplicationContext seeding = boot("--spring.jpa.hibernate.ddl-auto=create")) {
+            seeded = new LoadTestData(seeding.getBean(JdbcTemplate.class)).seed(USERS, PROJECTS, ACTIVITY_LOGS);
+        }
+        System.out.printf("Seeded %d users, %d projects, %d activity logs in %d s%n", USERS, PROJECTS,
+                ACTIVITY_LOGS, Duration.ofNanos(System.nanoTime() - seedStarted).toSeconds());
+
+        try (ConfigurableApplicationContext context = boot();
+                ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            baseUrl = "http://localhost:" + ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientThreads)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+            List<String> studentTokens = new ArrayList<>();
+            for (String email : seeded.studentEmails().subList(0, Math.min(1_000, seeded.studentEmails().size()))) {
+                studentTokens.add(jwtUtil.generateToken(email));
+            }
+            String adminToken = jwtUtil.generateToken(LoadTestData.ADMIN_EMAIL);
+
+            List<ScenarioResult> results = new ArrayList<>();
+            results.add(scenario("browse", REQUESTS, browse(seeded.projectIds())));
+            results.add(scenario("search", REQUESTS, search()));
+            results.add(scenario("login-storm", REQUESTS / 5, login(seeded.studentEmails())));
+            results.add(scenario("like-storm", REQUESTS, like(seeded.projectIds(), studentTokens)));
+            results.add(scenario("quiz-burst", REQUESTS, quiz(seeded.quizAnswers(), studentTokens)));
+            results.add(scenario("admin-dashboard", REQUESTS / 5, adminDashboard(adminToken)));
+
+            report(results);
+            for (ScenarioResult result : results) {
+                assertEquals(0, result.failures(), result.name() + " had failed requests: " + result.statuses());
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext boot(String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0", "--spring.main.banner-mode=off"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(CampusCollabPlatformApplication.class, LoadTestBeans.class)
+                .profiles("loadtest")
+                .run(args.toArray(String[]::new));
+    }
+
+    // Paged listing, project detail and the cached public feed revalidated with its ETag, as a browser would
+    private IntFunction<HttpRequest> browse(List<Long> projectIds) throws Exception {
+        String feedEtag = client.send(get("/api/projects/browse", null), HttpResponse.BodyHandlers.discarding())
+                .headers().firstValue("ETag").orElse(null);
+        return i -> switch (i % 3) {
+            case 0 -> get("/api/projects?page=" + ThreadLocalRandom.current().nextInt(20) + "&size=50", null);
+            case 1 -> get("/api/projects/" + pick(projectIds), null);
+            default -> {
+                HttpRequest.Builder builder = HttpRequest.newBuilder(uri("/api/projects/browse"))
+                        .timeout(Duration.ofSeconds(60));
+                if (feedEtag != null) {
+                    builder.header("If-None-Match", feedEtag);
+                }
+                yield builder.build();
+            }
+        };
+    }
+
+    private IntFunction<HttpRequest> search() {
+        return i -> {
+            String term = SEARCH_TERMS[i % SEARCH_TERMS.length];
+            String course = LoadTestData.COURSES[(i / SEARCH_TERMS.length) % LoadTestData.COURSES.length];
+            return get("/api/projects/search?status=APPROVED&search=" + term
+                    + (i % 2 == 0 ? "&course=" + course.replace(" ", "%20") : ""), null);
+        };
+    }
+
+    private IntFunction<HttpRequest> login(List<String> emails) {
+        return i -> post("/api/auth/login", null, Map.of("email", pick(emails), "password", LoadTestData.PASSWORD));
+    }
+
+    // Likes concentrated on a few hot projects, toggled by many users at once. Consecutive requests go to
+    // different users, so no (user, project) pair is toggled twice at the same time: two concurrent first
+    // likes by one user would collide on the project_likes unique key, which a browser never sends
+    private IntFunction<HttpRequest> like(List<Long> projectIds, List<String> tokens) {
+        List<Long> hot = projectIds.subList(0, Math.min(20, projectIds.size()));
+        return i -> post("/api/projects/" + hot.get((i / tokens.size()) % hot.size()) + "/like",
+                tokens.get(i % tokens.size()), Map.of());
+    }
+
+    private IntFunction<HttpRequest> quiz(Map<Long, Map<Long, String>> quizAnswers, List<String> tokens) {
+        List<Long> quizIds = new ArrayList<>(quizAnswers.keySet());
+        return i -> {
+            Long quizId = pick(quizIds);
+            Map<Long, String> answers = new HashMap<>();
+            quizAnswers.get(quizId).forEach((questionId, correct) ->
+                    answers.put(questionId, ThreadLocalRandom.current().nextInt(3) == 0 ? "A" : correct));
+            return post("/api/quizzes/" + quizId + "/submit", pick(tokens), answers);
+        };
+    }
+
+    private IntFunction<HttpRequest> adminDashboard(String token) {
+        return i -> switch (i % 3) {
+            case 0 -> get("/api/admin/stats", token);
+            case 1 -> get("/api/activity-logs/feed?size=50", token);
+            default -> get("/api/admin/students?course="
+                    + LoadTestData.COURSES[i % LoadTestData.COURSES.length].replace(" ", "%20"), token);
+        };
+    }
+
+    private ScenarioResult scenario(String name, int requests, IntFunction<HttpRequest> requestFor)
+            throws InterruptedException {
+        // Warm up the JIT, the pools and the caches before timing
+        drive(name, Math.max(1, requests / 10), requestFor);
+        return drive(name, requests, requestFor);
+    }
+
+    private ScenarioResult drive(String name, int requests, IntFunction<HttpRequest> requestFor)
+            throws InterruptedException {
+        long[] latencies = new long[requests];
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+
+        long started = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                inFlight.acquire();
+                workers.execute(() -> {
+                    try {
+                        HttpRequest request = requestFor.apply(index);
+                        long sent = System.nanoTime();
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        latencies[index] = System.nanoTime() - sent;
+                        statuses.computeIfAbsent(response.statusCode(), code -> new LongAdder()).increment();
+                        // 429 is the password hashing pool shedding load, which is expected under a storm
+                        if (response.statusCode() >= 500
+                                || (response.statusCode() >= 400 && response.statusCode() != 429)) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Arrays.sort(latencies);
+        Map<Integer, Long> statusCounts = new LinkedHashMap<>();
+        statuses.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> statusCounts.put(entry.getKey(), entry.getValue().sum()));
+        return new ScenarioResult(name, requests, CONCURRENCY, requests / seconds,
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                latencies[latencies.length - 1] / 1e6, statusCounts, failures.get());
+    }
+
+    private void report(List<ScenarioResult> results) throws Exception {
+        System.out.printf("%-16s %8s %10s %9s %9s %9s %9s%n", "scenario", "requests", "req/s", "p50 ms",
+                "p90 ms", "p99 ms", "max ms");
+        for (ScenarioResult r : results) {
+            System.out.printf("%-16s %8d %10.1f %9.1f %9.1f %9.1f %9.1f  %s%n", r.name(), r.requests(),
+                    r.throughputPerSecond(), r.p50Millis(), r.p90Millis(), r.p99Millis(), r.maxMillis(),
+                    r.statuses());
+        }
+        System.out.printf("Fake emails sent: %d%n", LoadTestBeans.EMAILS_SENT.get());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", LocalDateTime.now().toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("dataset", Map.of("users", USERS, "projects", PROJECTS, "activityLogs", ACTIVITY_LOGS));
+        report.put("scenarios", results);
+
+        Path output = Path.of("target", "loadtest",
+                "results-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        Files.createDirectories(output.getParent());
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    // Nearest-rank percentile of sorted nanosecond latencies, in milliseconds
+    private static double percentile(long[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    private HttpRequest get(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path)).timeout(Duration.ofSeconds(60));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        try {
+            return builder.POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))).build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
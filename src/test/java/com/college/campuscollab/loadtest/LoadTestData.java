@@ -0,0 +1,178 @@
+package com.college.campuscollab.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Seeds the load-test database with plain JDBC batches: students plus one
+ * admin, projects with screenshots, quizzes and activity logs. Generation
+ * is driven by a fixed seed so every run sees the same data.
+ */
+class LoadTestData {
+
+    static final String PASSWORD = "LoadTest@123";
+    static final String ADMIN_EMAIL = "admin@loadtest.college.edu";
+
+    static final String[] COURSES = { "BCA", "MCA", "BSc CS", "BTech IT", "MBA" };
+    static final String[] TECH = { "Java", "Spring Boot", "React", "Angular", "Python", "Django", "Flutter",
+            "Node.js", "MySQL", "MongoDB", "TensorFlow", "Android" };
+    private static final String[] TOPICS = { "Attendance", "Library", "Canteen", "Hostel", "Timetable",
+            "Placement", "Alumni", "Events", "Parking", "Exam" };
+    private static final String[] KINDS = { "Tracker", "Portal", "Manager", "Assistant", "Dashboard" };
+    private static final String[] ACTIONS = { "USER_LOGIN", "PROJECT_UPLOAD", "PROJECT_LIKE", "PROFILE_UPDATE",
+            "QUIZ_SUBMIT", "CONTRIBUTION_REQUEST" };
+    private static final String[] CATEGORIES = { "AUTH", "PROJECT", "PROJECT", "PROFILE", "QUIZ", "COLLABORATION" };
+    private static final String[] OPTIONS = { "A", "B", "C", "D" };
+
+    private static final String USER_SQL = "INSERT INTO users (full_name, email, roll_number, course, semester, "
+            + "password, role, account_status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int QUIZZES = 20;
+    private static final int QUESTIONS_PER_QUIZ = 20;
+
+    record Seeded(List<String> studentEmails, List<Long> projectIds, Map<Long, Map<Long, String>> quizAnswers) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SplittableRandom random = new SplittableRandom(20240601);
+    private final LocalDateTime now = LocalDateTime.now();
+
+    LoadTestData(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    Seeded seed(int students, int projects, int activityLogs) {
+        List<String> emails = seedUsers(students);
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE role = 'STUDENT' ORDER BY id",
+                Long.class);
+        List<Long> projectIds = seedProjects(projects, userIds);
+        Map<Long, Map<Long, String>> quizAnswers = seedQuizzes();
+        seedActivityLogs(activityLogs, userIds, emails);
+        return new Seeded(emails, projectIds, quizAnswers);
+    }
+
+    private List<String> seedUsers(int students) {
+        // One hash for everyone: BCrypt is deliberately slow and only logins need to pay for it
+        String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+        List<String> emails = new ArrayList<>(students);
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < students; i++) {
+            String email = "student" + i + "@loadtest.college.edu";
+            emails.add(email);
+            rows.add(new Object[] { "Student " + i, email, "LT" + i, COURSES[i % COURSES.length],
+                    1 + random.nextInt(8), hash, "STUDENT", "ACTIVE", timestampDaysAgo(730) });
+            flushIfFull(USER_SQL, rows);
+        }
+        rows.add(new Object[] { "Load Test Admin", ADMIN_EMAIL, "LT-ADMIN", null, null, hash, "ADMIN", "ACTIVE",
+                Timestamp.valueOf(now.minusYears(2)) });
+        flush(USER_SQL, rows);
+        return emails;
+    }
+
+    private List<Long> seedProjects(int projects, List<Long> userIds) {
+        String sql = "INSERT INTO projects (project_name, team_leader_name, course, semester, tech_stack, "
+                + "description, live_link, code_link, status, owner_id, view_count, like_count, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < projects; i++) {
+            String name = TOPICS[random.nextInt(TOPICS.length)] + " " + KINDS[random.nextInt(KINDS.length)] + " " + i;
+            String techStack = TECH[random.nextInt(TECH.length)] + ", " + TECH[random.nextInt(TECH.length)];
+            // Mostly approved, as in production
+            int roll = random.nextInt(100);
+            String status = roll < 80 ? "APPROVED" : roll < 95 ? "PENDING" : "REJECTED";
+            int owner = random.nextInt(userIds.size());
+            rows.add(new Object[] { name, "Student " + owner, COURSES[random.nextInt(COURSES.length)],
+                    1 + random.nextInt(8), techStack, name + " built with " + techStack + " for the college.",
+                    "https://demo.example.org/" + i, "https://github.com/example/project-" + i, status,
+                    userIds.get(owner), random.nextInt(5_000), random.nextInt(300),
+                    timestampDaysAgo(730) });
+            flushIfFull(sql, rows);
+        }
+        flush(sql, rows);
+
+        List<Long> projectIds = jdbcTemplate.queryForList("SELECT id FROM projects ORDER BY id", Long.class);
+        String screenshotSql = "INSERT INTO project_screenshots (project_id, screenshots) VALUES (?, ?)";
+        for (Long projectId : projectIds) {
+            rows.add(new Object[] { projectId, "uploads/projects/" + projectId + "-1.png" });
+            rows.add(new Object[] { projectId, "uploads/projects/" + projectId + "-2.png" });
+            flushIfFull(screenshotSql, rows);
+        }
+        flush(screenshotSql, rows);
+        return projectIds;
+    }
+
+    // Quiz id -> (question id -> correct option)
+    private Map<Long, Map<Long, String>> seedQuizzes() {
+        List<Object[]> quizzes = new ArrayList<>();
+        for (int q = 0; q < QUIZZES; q++) {
+            quizzes.add(new Object[] { "Quiz " + q, TECH[q % TECH.length],
+                    Date.valueOf(LocalDate.now().minusDays(q)) });
+        }
+        flush("INSERT INTO quiz (title, subject, created_date) VALUES (?, ?, ?)", quizzes);
+
+        String questionSql = "INSERT INTO quiz_question (question, optiona, optionb, optionc, optiond, "
+                + "correct_option, quiz_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> questions = new ArrayList<>();
+        for (Long quizId : jdbcTemplate.queryForList("SELECT id FROM quiz ORDER BY id", Long.class)) {
+            for (int i = 0; i < QUESTIONS_PER_QUIZ; i++) {
+                questions.add(new Object[] { "Question " + i + " of quiz " + quizId, "Option A", "Option B",
+                        "Option C", "Option D", OPTIONS[random.nextInt(OPTIONS.length)], quizId });
+            }
+        }
+        flush(questionSql, questions);
+
+        Map<Long, Map<Long, String>> answers = new HashMap<>();
+        jdbcTemplate.query("SELECT id, quiz_id, correct_option FROM quiz_question", row -> {
+            answers.computeIfAbsent(row.getLong("quiz_id"), id -> new HashMap<>())
+                    .put(row.getLong("id"), row.getString("correct_option"));
+        });
+        return answers;
+    }
+
+    private void seedActivityLogs(int activityLogs, List<Long> userIds, List<String> emails) {
+        String sql = "INSERT INTO activity_logs (user_id, user_email, user_full_name, user_role, action_type, "
+                + "action_category, description, status, \"timestamp\") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        LocalDateTime start = now.minusDays(365);
+        long spanSeconds = 365L * 24 * 60 * 60;
+        for (int i = 0; i < activityLogs; i++) {
+            int user = random.nextInt(userIds.size());
+            int action = random.nextInt(ACTIONS.length);
+            // Timestamps increase with the id, like the real append-only table
+            LocalDateTime timestamp = start.plusSeconds(spanSeconds * i / activityLogs);
+            rows.add(new Object[] { userIds.get(user), emails.get(user), "Student " + user, "STUDENT",
+                    ACTIONS[action], CATEGORIES[action], "Student " + user + " " + ACTIONS[action].toLowerCase(),
+                    "SUCCESS", Timestamp.valueOf(timestamp) });
+            flushIfFull(sql, rows);
+        }
+        flush(sql, rows);
+    }
+
+    private Timestamp timestampDaysAgo(int maxDays) {
+        return Timestamp.valueOf(now.minusMinutes(random.nextLong(maxDays * 24L * 60)));
+    }
+
+    private void flushIfFull(String sql, List<Object[]> rows) {
+        if (rows.size() >= BATCH_SIZE) {
+            flush(sql, rows);
+        }
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.college.campuscollab.loadtest;
+
+import com.college.campuscollab.event.ProblemSubmittedEvent;
+import com.college.campuscollab.metrics.QueryCountAssert;
+import com.college.campuscollab.security.jwt.JwtUtil;
+import com.college.campuscollab.service.ProblemActivityRollup;
+import com.college.campuscollab.service.ProblemStatsEngine;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statements per endpoint, measured on the second call (the first warms
+ * the second-level cache, as the first request after a deploy would). The
+ * endpoints are the ones that used to run a query per row. Each budget is the
+ * count measured on H2 and is checked exactly, so a change in either
+ * direction has to update the number here, with a reason in the commit.
+ *
+ * Runs the full application against in-memory H2 as part of the normal build:
+ *
+ * mvn test -Dtest=QueryBudgetTest
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querybudget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create" })
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ProblemStatsEngine problemStatsEngine;
+
+    @Autowired
+    private ProblemActivityRollup problemActivityRollup;
+
+    private String studentToken;
+    private String adminToken;
+
+    @BeforeAll
+    void seed() {
+        LoadTestData.Seeded seeded = new LoadTestData(jdbcTemplate).seed(200, 1_000, 1_000);
+        studentToken = "Bearer " + jwtUtil.generateToken(seeded.studentEmails().get(0));
+        adminToken = "Bearer " + jwtUtil.generateToken(LoadTestData.ADMIN_EMAIL);
+
+        // The problem indexes were built at startup from empty tables
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE role = 'STUDENT'", Long.class);
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < userIds.size(); i++) {
+            ProblemSubmittedEvent event = new ProblemSubmittedEvent((long) i, userIds.get(i), today.minusDays(i % 5),
+                    "LeetCode", "MEDIUM", 10 + i % 20);
+            problemStatsEngine.onProblemSubmitted(event);
+            problemActivityRollup.onProblemSubmitted(event);
+        }
+    }
+
+    // Two counts; the user comes from the second-level cache
+    @Test
+    void userProfile() throws Throwable {
+        assertBudget(2, get("/api/users/profile").header("Authorization", studentToken));
+    }
+
+    // One join query for the page; the total comes from the inbox counters
+    @Test
+    void pendingRequests() throws Throwable {
+        assertBudget(1, get("/api/users/pending-requests").header("Authorization", studentToken));
+    }
+
+    // Students, then project counts for all owners in one grouped query
+    @Test
+    void adminStudents() throws Throwable {
+        assertBudget(2, get("/api/admin/students").param("course", "BCA").header("Authorization", adminToken));
+    }
+
+    // Students, project totals and approved collaborations, each in one query
+    @Test
+    void adminLeaderboard() throws Throwable {
+        assertBudget(3, get("/api/admin/leaderboard").header("Authorization", adminToken));
+    }
+
+    // Ranking is in memory; one findAllById for the names on the page
+    @Test
+    void problemLeaderboard() throws Throwable {
+        assertBudget(1, get("/api/problems/leaderboard/weekly").header("Authorization", studentToken));
+    }
+
+    // Count, page and the page's screenshots
+    @Test
+    void projectSummaries() throws Throwable {
+        assertBudget(3, get("/api/projects").param("page", "1").param("size", "50"));
+    }
+
+    private void assertBudget(int statements, RequestBuilder request) throws Throwable {
+        mockMvc.perform(request).andExpect(status().isOk());
+        QueryCountAssert.assertStatements(statements, () -> mockMvc.perform(request).andExpect(status().isOk()));
+    }
+}
@@ -0,0 +1,67 @@
+package com.college.campuscollab.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Prometheus text output of each metric type, and route-template labels
+ * on HTTP timings.
+ */
+class MetricsRegistryTest {
+
+    @Test
+    void scrapeRendersCountersHistogramsAndGauges() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("files_served_bytes_total", "Bytes served").labels().increment(2048);
+        MetricsRegistry.Family<MetricsRegistry.Timer> timer = registry.timer("email_send_seconds", "Sends", "outcome");
+        timer.labels("success").record(3_000_000);
+        timer.labels("success").record(300_000_000);
+        registry.gauge("quiz_submission_queue_depth", "Queued", () -> 7);
+        registry.gauge("odd_label", "Escaping", () -> 1.5, "path", "a\"b");
+
+        String text = registry.scrape();
+
+        assertTrue(text.contains("# TYPE files_served_bytes_total counter\nfiles_served_bytes_total 2048\n"), text);
+        assertTrue(text.contains("# TYPE email_send_seconds histogram\n"), text);
+        assertTrue(text.contains("email_send_seconds_bucket{outcome=\"success\",le=\"0.005\"} 1\n"), text);
+        assertTrue(text.contains("email_send_seconds_bucket{outcome=\"success\",le=\"0.25\"} 1\n"), text);
+        assertTrue(text.contains("email_send_seconds_bucket{outcome=\"success\",le=\"0.5\"} 2\n"), text);
+        assertTrue(text.contains("email_send_seconds_bucket{outcome=\"success\",le=\"+Inf\"} 2\n"), text);
+        assertTrue(text.contains("email_send_seconds_count{outcome=\"success\"} 2\n"), text);
+        assertTrue(text.contains("email_send_seconds_sum{outcome=\"success\"} 0.303\n"), text);
+        assertTrue(text.contains("# TYPE email_send_seconds_max gauge\nemail_send_seconds_max{outcome=\"success\"} 0.3\n"), text);
+        assertTrue(text.contains("quiz_submission_queue_depth 7\n"), text);
+        assertTrue(text.contains("odd_label{path=\"a\\\"b\"} 1.5\n"), text);
+    }
+
+    @Test
+    void httpTimingsAreLabelledWithTheRouteTemplate() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new SampleController())
+                .addFilters(new HttpMetricsConfig().httpMetricsFilter(registry).getFilter())
+                .build();
+
+        mvc.perform(get("/api/projects/41")).andExpect(status().isOk());
+        mvc.perform(get("/api/projects/42")).andExpect(status().isOk());
+
+        String text = registry.scrape();
+        assertTrue(text.contains("http_server_requests_seconds_count{method=\"GET\",uri=\"/api/projects/{id}\","
+                + "status=\"200\",outcome=\"SUCCESS\"} 2\n"), text);
+    }
+
+    @RestController
+    static class SampleController {
+        @GetMapping("/api/projects/{id}")
+        String project(@PathVariable Long id) {
+            return "project " + id;
+        }
+    }
+}
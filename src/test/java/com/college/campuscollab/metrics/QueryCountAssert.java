@@ -0,0 +1,53 @@
+package com.college.campuscollab.metrics;
+
+import org.junit.jupiter.api.function.Executable;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Pins how many SQL statements a block may run on the calling thread, e.g.
+ * a MockMvc request against the full application:
+ *
+ * QueryCountAssert.assertMaxStatements(2, () -> mockMvc.perform(get("/api/users/profile")));
+ *
+ * The failure message lists the query shapes, so an N+1 shows up as one
+ * shape repeated once per row.
+ */
+public final class QueryCountAssert {
+
+    private static final int REPORTED_SHAPES = 10;
+
+    private QueryCountAssert() {
+    }
+
+    public static SqlStatementCounter.Scope assertMaxStatements(int max, Executable block) throws Throwable {
+        SqlStatementCounter.Scope scope = count(block);
+        if (scope.getStatements() > max) {
+            throw new AssertionFailedError(message("at most " + max, scope), max, scope.getStatements());
+        }
+        return scope;
+    }
+
+    public static SqlStatementCounter.Scope assertStatements(int expected, Executable block) throws Throwable {
+        SqlStatementCounter.Scope scope = count(block);
+        if (scope.getStatements() != expected) {
+            throw new AssertionFailedError(message("exactly " + expected, scope), expected, scope.getStatements());
+        }
+        return scope;
+    }
+
+    public static SqlStatementCounter.Scope count(Executable block) throws Throwable {
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            block.execute();
+            return scope;
+        }
+    }
+
+    private static String message(String expectation, SqlStatementCounter.Scope scope) {
+        StringBuilder message = new StringBuilder("Expected ").append(expectation)
+                .append(" SQL statements but ").append(scope.getStatements()).append(" ran:");
+        for (SqlStatementCounter.Shape shape : scope.topShapes(REPORTED_SHAPES)) {
+            message.append("\n  ").append(shape.count()).append("x ").append(shape.sql());
+        }
+        return message.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package com.college.campuscollab.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement counting through the DataSource proxy, the per-route histogram
+ * and QueryCountAssert, against mocked JDBC objects.
+ */
+class SqlStatementGuardTest {
+
+    @Test
+    void statementsAreCountedByShapeInEveryOpenScope() throws Exception {
+        DataSource target = mockDataSource();
+        DataSource dataSource = StatementCountingDataSource.wrap(target, Long.MAX_VALUE, (shape, nanos) -> { });
+
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.open()) {
+            try (Connection connection = dataSource.getConnection()) {
+                for (long ownerId = 1; ownerId <= 3; ownerId++) {
+                    PreparedStatement statement =
+                            connection.prepareStatement("select p.id from projects p where p.owner_id = ?");
+                    statement.setLong(1, ownerId);
+                    statement.executeQuery();
+                }
+                try (SqlStatementCounter.Scope inner = SqlStatementCounter.open()) {
+                    connection.createStatement().execute("select u.id from users u where u.email = 'a@b.c'");
+                    assertEquals(1, inner.getStatements());
+                }
+            }
+            assertEquals(4, outer.getStatements());
+            SqlStatementCounter.Shape top = outer.topShapes(1).get(0);
+            assertEquals(3, top.count());
+            assertEquals("select p.id from projects p where p.owner_id = ?", top.sql());
+            assertEquals("select u.id from users u where u.email = ?", outer.topShapes(2).get(1).sql());
+        }
+    }
+
+    @Test
+    void unwrapReachesThePool() throws Exception {
+        DataSource target = mockDataSource();
+        when(target.unwrap(DataSource.class)).thenReturn(target);
+        DataSource dataSource = StatementCountingDataSource.wrap(target, Long.MAX_VALUE, (shape, nanos) -> { });
+
+        assertTrue(StatementCountingDataSource.isWrapped(dataSource));
+        assertSame(target, dataSource.unwrap(DataSource.class));
+    }
+
+    @Test
+    void shapesIgnoreLiteralsAndInListLength() {
+        assertEquals("select * from users u1_0 where u1_0.id in (?...) and u1_0.role = ?",
+                SqlStatementCounter.shapeOf("select * from users u1_0\n where u1_0.id in (?, ?, ?) and u1_0.role = 'ADMIN'"));
+    }
+
+    @Test
+    void requestsAreCountedByRouteAndBudgetsFailWithTheShapes() throws Throwable {
+        DataSource dataSource = StatementCountingDataSource.wrap(mockDataSource(), Long.MAX_VALUE,
+                (shape, nanos) -> { });
+        MetricsRegistry registry = new MetricsRegistry();
+        MockEnvironment environment = new MockEnvironment().withProperty("sql.guard.max-statements-per-request", "2");
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new StudentController(dataSource))
+                .addFilters(new SqlStatementGuardConfig().sqlStatementFilter(registry, environment).getFilter())
+                .build();
+
+        QueryCountAssert.assertStatements(1, () -> mvc.perform(get("/api/students/1")).andExpect(status().isOk()));
+        AssertionFailedError failure = assertThrows(AssertionFailedError.class,
+                () -> QueryCountAssert.assertMaxStatements(2, () -> mvc.perform(get("/api/students/3"))));
+        assertTrue(failure.getMessage().contains("3x select * from projects where owner_id = ?"),
+                failure.getMessage());
+
+        String text = registry.scrape();
+        assertTrue(text.contains("# TYPE http_server_requests_sql_statements histogram\n"), text);
+        assertTrue(text.contains("http_server_requests_sql_statements_bucket{method=\"GET\","
+                + "uri=\"/api/students/{count}\",le=\"1.0\"} 1\n"), text);
+        assertTrue(text.contains("http_server_requests_sql_statements_count{method=\"GET\","
+                + "uri=\"/api/students/{count}\"} 2\n"), text);
+        assertTrue(text.contains("http_server_requests_sql_statements_sum{method=\"GET\","
+                + "uri=\"/api/students/{count}\"} 4\n"), text);
+    }
+
+    private static DataSource mockDataSource() throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        when(connection.createStatement()).thenAnswer(invocation -> mock(Statement.class));
+        return dataSource;
+    }
+
+    // Runs one query per project of a student, like an N+1
+    @RestController
+    static class StudentController {
+        private final DataSource dataSource;
+
+        StudentController(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @GetMapping("/api/students/{count}")
+        String projects(@PathVariable int count) throws SQLException {
+            try (Connection connection = dataSource.getConnection()) {
+                for (int i = 0; i < count; i++) {
+                    connection.prepareStatement("select * from projects where owner_id = " + i).executeQuery();
+                }
+            }
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.college.campuscollab.repository;
+
+import com.college.campuscollab.entity.Project;
+import com.college.campuscollab.entity.RequestStatus;
+import com.college.campuscollab.entity.Role;
+import com.college.campuscollab.entity.User;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Calls every repository finder used by the services, captures the SQL
+ * Hibernate generates for it together with the bound parameters, and runs
+ * EXPLAIN on that SQL. Fails when MySQL plans a full table scan, so the check
+ * follows the finders as they change instead of a hand-copied list of SQL.
+ *
+ * Boots the application against a local MySQL schema created by the
+ * application (ddl-auto: update) or migrated with db/migration, ideally with
+ * realistic data so the optimizer picks the same plans as production:
+ *
+ * mvn test -Dtest=QueryPlanCheckTest -Dexplain.db.url=jdbc:mysql://localhost:3306/campus_collab_db
+ * -Dexplain.db.username=root -Dexplain.db.password=secret
+ *
+ * Finders that scan by design (LIKE '%term%' searches, unfiltered findAll,
+ * full-table GROUP BY aggregates) are intentionally not listed.
+ */
+@EnabledIfSystemProperty(named = "explain.db.url", matches = ".+")
+@SpringBootTest(properties = {
+        "spring.datasource.url=${explain.db.url}",
+        "spring.datasource.username=${explain.db.username:root}",
+        "spring.datasource.password=${explain.db.password:}",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "sendgrid.api.key=explain",
+        "metrics.exporter.enabled=false" })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanCheckTest {
+
+    record Finder(String name, Runnable call) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    // One executed statement: its SQL and the setXxx calls that bound its parameters
+    record CapturedStatement(String sql, List<Binding> bindings) {
+    }
+
+    record Binding(Method setter, Object[] args) {
+    }
+
+    private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ContributionRequestRepository contributionRequestRepository;
+
+    @Autowired
+    private ProblemSubmissionRepository problemSubmissionRepository;
+
+    @Autowired
+    private ProjectLikeRepository projectLikeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    Stream<Finder> finders() {
+        Pageable page = PageRequest.of(0, 20);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = LocalDate.now();
+        // Detached references: Hibernate only binds their ids
+        User user = new User();
+        user.setId(1L);
+        Project project = new Project();
+        project.setId(1L);
+
+        return Stream.of(
+                // ActivityLogRepository
+                new Finder("ActivityLog.findAllByOrderByTimestampDesc",
+                        () -> activityLogRepository.findAllByOrderByTimestampDesc(page)),
+                new Finder("ActivityLog.findByUserEmailOrderByTimestampDesc",
+                        () -> activityLogRepository.findByUserEmailOrderByTimestampDesc("a@b.c", page)),
+                new Finder("ActivityLog.findByActionCategoryOrderByTimestampDesc",
+                        () -> activityLogRepository.findByActionCategoryOrderByTimestampDesc("AUTH", page)),
+                new Finder("ActivityLog.findByTimestampBetweenOrderByTimestampDesc",
+                        () -> activityLogRepository.findByTimestampBetweenOrderByTimestampDesc(now.minusDays(1),
+                                now, page)),
+                new Finder("ActivityLog.findFeed",
+                        () -> activityLogRepository.findFeed(now, Long.MAX_VALUE, page)),
+                new Finder("ActivityLog.findFeedByUserEmail",
+                        () -> activityLogRepository.findFeedByUserEmail("a@b.c", now, Long.MAX_VALUE, page)),
+                new Finder("ActivityLog.findFeedByCategory",
+                        () -> activityLogRepository.findFeedByCategory("AUTH", now, Long.MAX_VALUE, page)),
+                new Finder("ActivityLog.findFeedByDateRange",
+                        () -> activityLogRepository.findFeedByDateRange(now.minusDays(1), now, now, Long.MAX_VALUE,
+                                page)),
+                new Finder("ActivityLog.countRecentActivity",
+                        () -> activityLogRepository.countRecentActivity(now.minusDays(1))),
+                new Finder("ActivityLog.getActivityStatsByCategory",
+                        () -> activityLogRepository.getActivityStatsByCategory(now.minusDays(1))),
+
+                // ProjectRepository
+                new Finder("Project.findByStatusOrderByCreatedAtDesc",
+                        () -> projectRepository.findByStatusOrderByCreatedAtDesc("APPROVED")),
+                new Finder("Project.findByOwner", () -> projectRepository.findByOwner(user)),
+                new Finder("Project.countByOwner", () -> projectRepository.countByOwner(user)),
+                new Finder("Project.findSummariesByOwnerId",
+                        () -> projectRepository.findSummariesByOwnerId(1L, page)),
+
+                // ContributionRequestRepository
+                new Finder("ContributionRequest.countByStatus",
+                        () -> contributionRequestRepository.countByStatus(RequestStatus.PENDING)),
+                new Finder("ContributionRequest.countByRequestedByAndStatus",
+                        () -> contributionRequestRepository.countByRequestedByAndStatus(user, RequestStatus.APPROVED)),
+                new Finder("ContributionRequest.findByRequestedBy",
+                        () -> contributionRequestRepository.findByRequestedBy(user)),
+                new Finder("ContributionRequest.findByProject",
+                        () -> contributionRequestRepository.findByProject(project)),
+                new Finder("ContributionRequest.findByProjectAndRequestedBy",
+                        () -> contributionRequestRepository.findByProjectAndRequestedBy(project, user)),
+                new Finder("ContributionRequest.findInboxByOwnerId",
+                        () -> contributionRequestRepository.findInboxByOwnerId(1L, RequestStatus.PENDING, page)),
+                new Finder("ContributionRequest.countByOwnerIdAndStatus",
+                        () -> contributionRequestRepository.countByOwnerIdAndStatus(1L, RequestStatus.PENDING)),
+
+                // ProblemSubmissionRepository
+                new Finder("ProblemSubmission.findBySubmissionDateBetween",
+                        () -> problemSubmissionRepository.findBySubmissionDateBetween(today.minusDays(7), today)),
+                new Finder("ProblemSubmission.findByUser", () -> problemSubmissionRepository.findByUser(user)),
+                new Finder("ProblemSubmission.findLinksByUserId",
+                        () -> problemSubmissionRepository.findLinksByUserId(1L)),
+
+                // ProjectLikeRepository
+                new Finder("ProjectLike.existsByProjectAndUser",
+                        () -> projectLikeRepository.existsByProjectAndUser(project, user)),
+                new Finder("ProjectLike.countByProject", () -> projectLikeRepository.countByProject(project)),
+
+                // UserRepository; an unknown email so the natural-id lookup misses the cache
+                new Finder("User.findByEmail", () -> userRepository.findByEmail("explain@example.invalid")),
+                new Finder("User.countByRole", () -> userRepository.countByRole(Role.STUDENT)),
+                new Finder("User.findByRoleAndCourse",
+                        () -> userRepository.findByRoleAndCourse(Role.STUDENT, "MCA")),
+
+                // PasswordResetTokenRepository
+                new Finder("PasswordResetToken.findByToken",
+                        () -> passwordResetTokenRepository.findByToken("abc")));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("finders")
+    void finderDoesNotScanWholeTable(Finder finder) throws Exception {
+        List<CapturedStatement> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            finder.call().run();
+        } finally {
+            CAPTURED.remove();
+        }
+        assertFalse(statements.isEmpty(), finder.name() + " ran no SQL");
+
+        // A separate connection, so the EXPLAINs are not captured themselves
+        try (Connection connection = DriverManager.getConnection(
+                System.getProperty("explain.db.url"),
+                System.getProperty("explain.db.username", "root"),
+                System.getProperty("explain.db.password", ""))) {
+            for (CapturedStatement statement : statements) {
+                List<String> fullScans = fullScans(connection, statement);
+                assertTrue(fullScans.isEmpty(),
+                        finder.name() + " does a full scan on " + fullScans + ": " + statement.sql());
+            }
+        }
+    }
+
+    private static List<String> fullScans(Connection connection, CapturedStatement statement) throws Exception {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (Binding binding : statement.bindings()) {
+                binding.setter().invoke(explain, binding.args());
+            }
+            List<String> fullScans = new ArrayList<>();
+            try (ResultSet plan = explain.executeQuery()) {
+                while (plan.next()) {
+                    // type = ALL means MySQL reads every row of that table
+                    if ("ALL".equalsIgnoreCase(plan.getString("type"))) {
+                        fullScans.add(plan.getString("table"));
+                    }
+                }
+            }
+            return fullScans;
+        }
+    }
+
+    // Wraps the application's DataSource so statements run while a finder is called are captured
+    @TestConfiguration
+    static class CapturingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? proxy(DataSource.class, dataSource, (target, method, args) -> {
+                                Object result = invoke(target, method, args);
+                                return result instanceof Connection connection ? capturing(connection) : result;
+                            })
+                            : bean;
+                }
+            };
+        }
+
+        private static Connection capturing(Connection connection) {
+            return proxy(Connection.class, connection, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                    return capturing(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement statement, String sql) {
+            List<Binding> bindings = new ArrayList<>();
+            return proxy(PreparedStatement.class, statement, (target, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    bindings.add(new Binding(method, args.clone()));
+                } else if (name.startsWith("execute") && CAPTURED.get() != null) {
+                    CAPTURED.get().add(new CapturedStatement(sql, List.copyOf(bindings)));
+                }
+                return invoke(target, method, args);
+            });
+        }
+
+        private interface Handler<T> {
+            Object invoke(T target, Method method, Object[] args) throws Throwable;
+        }
+
+        private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> handler.invoke(target, method, args);
+            };
+            return type.cast(Proxy.newProxyInstance(QueryPlanCheckTest.class.getClassLoader(),
+                    new Class<?>[] { type }, invocationHandler));
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.college.campuscollab.repository;
+
+import com.college.campuscollab.entity.Role;
+import com.college.campuscollab.entity.User;
+import com.college.campuscollab.metrics.QueryCountAssert;
+import com.college.campuscollab.service.EntityCacheService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * UserRepository.findByEmail through the natural-id cache (see
+ * UserRepositoryCustomImpl and LocalCacheRegionFactory), against the full
+ * application on in-memory H2: a warm lookup runs no SQL, and neither an
+ * explicit eviction nor an email change leaves the old email resolving.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:naturalidcache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create" })
+@ActiveProfiles("loadtest")
+class UserNaturalIdCacheTest {
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityCacheService entityCacheService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void warmLookupRunsNoSql() throws Throwable {
+        User user = saveUser();
+        userRepository.findByEmail(user.getEmail());
+
+        AtomicReference<Optional<User>> found = new AtomicReference<>();
+        QueryCountAssert.assertStatements(0, () -> found.set(userRepository.findByEmail(user.getEmail())));
+        assertEquals(user.getId(), found.get().orElseThrow().getId());
+    }
+
+    @Test
+    void evictUserStopsStaleResolution() throws Throwable {
+        User user = saveUser();
+        String oldEmail = user.getEmail();
+        userRepository.findByEmail(oldEmail);
+
+        // Changed behind Hibernate's back, as a manual fix in the database would be
+        String newEmail = "changed-" + oldEmail;
+        jdbcTemplate.update("UPDATE users SET email = ? WHERE id = ?", newEmail, user.getId());
+        assertTrue(userRepository.findByEmail(oldEmail).isPresent(), "expected the cached resolution");
+
+        entityCacheService.evictUser(user.getId());
+
+        assertTrue(QueryCountAssert.count(() -> assertFalse(userRepository.findByEmail(oldEmail).isPresent()))
+                .getStatements() > 0);
+        assertEquals(user.getId(), userRepository.findByEmail(newEmail).orElseThrow().getId());
+    }
+
+    @Test
+    void emailChangeStopsStaleResolution() {
+        User user = saveUser();
+        String oldEmail = user.getEmail();
+        userRepository.findByEmail(oldEmail);
+
+        String newEmail = "renamed-" + oldEmail;
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(user.getId()).orElseThrow()
+                .setEmail(newEmail));
+
+        assertFalse(userRepository.findByEmail(oldEmail).isPresent());
+        User renamed = userRepository.findByEmail(newEmail).orElseThrow();
+        assertEquals(user.getId(), renamed.getId());
+        assertEquals(newEmail, renamed.getEmail());
+    }
+
+    private User saveUser() {
+        int n = USERS.incrementAndGet();
+        User user = new User();
+        user.setFullName("Cache Test " + n);
+        user.setEmail("cache" + n + "@test.college.edu");
+        user.setRollNumber("CACHE" + n);
+        user.setCourse("BCA");
+        user.setSemester(3);
+        user.setPassword("not-a-hash");
+        user.setRole(Role.STUDENT);
+        return userRepository.save(user);
+    }
+}
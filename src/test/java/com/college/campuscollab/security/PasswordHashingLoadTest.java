@@ -0,0 +1,109 @@
+package com.college.campuscollab.security;
+
+import com.college.campuscollab.exception.PasswordHashingOverloadedException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Login storm on virtual threads: 200 concurrent BCrypt verifications mixed
+ * with 2,000 light requests (5 ms of blocking I/O each), first verifying on
+ * the caller's thread and then through OffloadingPasswordEncoder. Reports
+ * login throughput and the p99 latency of the light requests.
+ *
+ * mvn test -Dtest=PasswordHashingLoadTest -Dloadtest=true
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class PasswordHashingLoadTest {
+
+    private static final int LOGINS = 200;
+    private static final int LIGHT_REQUESTS = 2_000;
+    private static final String PASSWORD = "semester-start";
+
+    record Result(double loginsPerSecond, double lightP99Millis, int rejected) {
+    }
+
+    @Test
+    void offloadingKeepsOtherRequestsResponsive() throws Exception {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder();
+        String hash = bcrypt.encode(PASSWORD);
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        Result direct = run(bcrypt, hash);
+        Result offloaded;
+        try (OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(bcrypt, cores, LOGINS)) {
+            offloaded = run(encoder, hash);
+        }
+        Result admissionLimited;
+        try (OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(bcrypt, cores, 16)) {
+            admissionLimited = run(encoder, hash);
+        }
+
+        System.out.printf("direct:            %.1f logins/s, light p99 %.1f ms%n",
+                direct.loginsPerSecond(), direct.lightP99Millis());
+        System.out.printf("offloaded:         %.1f logins/s, light p99 %.1f ms%n",
+                offloaded.loginsPerSecond(), offloaded.lightP99Millis());
+        System.out.printf("offloaded, q=16:   %.1f logins/s, light p99 %.1f ms, %d logins got 429%n",
+                admissionLimited.loginsPerSecond(), admissionLimited.lightP99Millis(), admissionLimited.rejected());
+
+        assertTrue(offloaded.lightP99Millis() < direct.lightP99Millis(),
+                "expected offloading to lower light-request latency");
+        assertTrue(admissionLimited.rejected() > 0, "expected the small queue to reject part of the storm");
+    }
+
+    private Result run(PasswordEncoder encoder, String hash) throws Exception {
+        AtomicInteger rejected = new AtomicInteger();
+        List<Long> lightLatencies = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+        long loginNanos;
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> logins = new ArrayList<>(LOGINS);
+            for (int i = 0; i < LOGINS; i++) {
+                logins.add(threads.submit(() -> {
+                    start.await();
+                    try {
+                        assertTrue(encoder.matches(PASSWORD, hash));
+                    } catch (PasswordHashingOverloadedException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < LIGHT_REQUESTS; i++) {
+                threads.submit(() -> {
+                    start.await();
+                    long started = System.nanoTime();
+                    Thread.sleep(5);
+                    lightLatencies.add(System.nanoTime() - started);
+                    return null;
+                });
+            }
+
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> login : logins) {
+                login.get();
+            }
+            loginNanos = System.nanoTime() - started;
+        }
+
+        List<Long> sorted = new ArrayList<>(lightLatencies);
+        Collections.sort(sorted);
+        double p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1) / 1e6;
+        double loginsPerSecond = (LOGINS - rejected.get()) / (loginNanos / 1e9);
+        return new Result(loginsPerSecond, p99, rejected.get());
+    }
+}
@@ -0,0 +1,127 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.controller.NotificationController;
+import com.college.campuscollab.entity.Role;
+import com.college.campuscollab.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Last-Event-ID reconnects through NotificationController on a standalone
+ * MockMvc: a backlog larger than the connection buffer must get a resync
+ * instead of overflowing the buffer before the writer starts, and a
+ * connection that closed while subscribing must not stay registered.
+ */
+class NotificationHubTest {
+
+    private static final long USER_ID = 7L;
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    private NotificationHub hub;
+
+    @AfterEach
+    void tearDown() {
+        if (hub != null) {
+            hub.close();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void reconnectFarBehindGetsResync() throws Exception {
+        MockMvc mockMvc = mockMvc(64, 100);
+        for (int i = 0; i < 101; i++) {
+            hub.publish(USER_ID, "contribution.requested", Map.of("requestId", i));
+        }
+        // An unknown id gets a resync carrying the latest id
+        long latest = Long.parseLong(firstMatch(awaitContent(stream(mockMvc, "0"), "event:resync"), EVENT_ID));
+
+        String farBehind = awaitContent(stream(mockMvc, String.valueOf(latest - 100)), "event:resync");
+        assertFalse(farBehind.contains("event:contribution.requested"), farBehind);
+
+        String recent = awaitContent(stream(mockMvc, String.valueOf(latest - 10)), "id:" + latest);
+        assertEquals(10, count(recent, "event:contribution.requested"), recent);
+        assertFalse(recent.contains("event:resync"), recent);
+
+        assertEquals(3, hub.getConnectionCount());
+    }
+
+    @Test
+    void connectionClosedWhileSubscribingIsNotRegistered() throws Exception {
+        // Room for "connected" only, so the resync overflows the buffer
+        MockMvc mockMvc = mockMvc(1, 100);
+        hub.publish(USER_ID, "contribution.requested", Map.of("requestId", 1));
+
+        stream(mockMvc, "0");
+
+        assertEquals(0, hub.getConnectionCount());
+    }
+
+    private MockMvc mockMvc(int bufferSize, int replaySize) {
+        hub = new NotificationHub(mock(AdminStatsService.class), bufferSize, replaySize);
+
+        User user = new User();
+        user.setId(USER_ID);
+        user.setEmail("student@college.edu");
+        user.setRole(Role.STUDENT);
+        UserService userService = mock(UserService.class);
+        when(userService.getUserByEmail(anyString())).thenReturn(user);
+
+        UserDetails principal = org.springframework.security.core.userdetails.User
+                .withUsername(user.getEmail()).password("unused").roles("STUDENT").build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        return MockMvcBuilders.standaloneSetup(new NotificationController(hub, userService))
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    private static MockHttpServletResponse stream(MockMvc mockMvc, String lastEventId) throws Exception {
+        return mockMvc.perform(get("/api/notifications/stream").header("Last-Event-ID", lastEventId))
+                .andReturn()
+                .getResponse();
+    }
+
+    // Events are written by the connection's own thread
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            content = response.getContentAsString();
+        }
+        assertTrue(content.contains(expected), "expected " + expected + " in " + content);
+        return content;
+    }
+
+    private static String firstMatch(String content, Pattern pattern) {
+        Matcher matcher = pattern.matcher(content);
+        assertTrue(matcher.find(), content);
+        return matcher.group(1);
+    }
+
+    private static int count(String content, String token) {
+        return List.of(content.split(token, -1)).size() - 1;
+    }
+}
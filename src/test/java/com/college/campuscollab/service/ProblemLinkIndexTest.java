@@ -0,0 +1,45 @@
+package com.college.campuscollab.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * ProblemLinkIndex.normalize: only scheme and host are case-insensitive,
+ * tracking parameters are dropped and the rest of the query is kept.
+ */
+class ProblemLinkIndexTest {
+
+    @Test
+    void schemeHostAndWwwAreIgnored() {
+        assertEquals("leetcode.com/problems/two-sum",
+                ProblemLinkIndex.normalize("  HTTPS://WWW.LeetCode.com/problems/two-sum/#description "));
+        assertEquals(ProblemLinkIndex.normalize("http://leetcode.com/problems/two-sum"),
+                ProblemLinkIndex.normalize("https://www.LEETCODE.COM/problems/two-sum/"));
+    }
+
+    @Test
+    void pathAndQueryKeepTheirCase() {
+        assertEquals("codeforces.com/problemset/problem/1/A",
+                ProblemLinkIndex.normalize("https://Codeforces.com/problemset/problem/1/A"));
+        assertNotEquals(ProblemLinkIndex.normalize("https://spoj.com/problems/ABC"),
+                ProblemLinkIndex.normalize("https://spoj.com/problems/abc"));
+        assertEquals("acm.timus.ru/problem.aspx?space=1&num=1000",
+                ProblemLinkIndex.normalize("https://acm.timus.ru/problem.aspx?space=1&num=1000"));
+    }
+
+    @Test
+    void trackingParametersAreDroppedInAnyCase() {
+        assertEquals("hackerrank.com/challenges/solve-me-first?h=1",
+                ProblemLinkIndex.normalize(
+                        "https://www.hackerrank.com/challenges/solve-me-first?utm_source=x&&h=1&envType=a&REF=b"));
+    }
+
+    @Test
+    void emptyLinkIsNull() {
+        assertNull(ProblemLinkIndex.normalize(null));
+        assertNull(ProblemLinkIndex.normalize(" https://www./ "));
+    }
+}
@@ -0,0 +1,95 @@
+package com.college.campuscollab.service;
+
+import com.college.campuscollab.dto.ProjectResponse;
+import com.college.campuscollab.event.ProjectUploadedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 100 concurrent misses on the approved feed must run the query once, and
+ * a project event must make the next request recompute it.
+ */
+class ProjectFeedCacheTest {
+
+    private static final int CLIENTS = 100;
+
+    @Test
+    void concurrentMissesShareOneQuery() throws Exception {
+        ProjectService projectService = mock(ProjectService.class);
+        AtomicInteger queries = new AtomicInteger();
+        when(projectService.getApprovedProjects()).thenAnswer(invocation -> {
+            queries.incrementAndGet();
+            // Simulate a slow query so every client arrives while it runs
+            Thread.sleep(200);
+            return List.of(project(1L, "Campus Maps"));
+        });
+        ProjectFeedCache cache = new ProjectFeedCache(projectService, new ObjectMapper().findAndRegisterModules(),
+                60_000, 1000);
+
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ProjectFeedCache.Feed>> feeds = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            feeds.add(clients.submit(() -> {
+                start.await();
+                return cache.getApproved();
+            }));
+        }
+        start.countDown();
+        ProjectFeedCache.Feed first = feeds.get(0).get();
+        for (Future<ProjectFeedCache.Feed> feed : feeds) {
+            assertEquals(first.etag(), feed.get().etag());
+            assertArrayEquals(first.body(), feed.get().body());
+        }
+        clients.shutdown();
+        assertEquals(1, queries.get());
+
+        cache.onProjectUploaded(new ProjectUploadedEvent(2L, 1L));
+        when(projectService.getApprovedProjects()).thenReturn(
+                List.of(project(2L, "Lab Booking"), project(1L, "Campus Maps")));
+        ProjectFeedCache.Feed refreshed = cache.getApproved();
+        assertNotEquals(first.etag(), refreshed.etag());
+        assertEquals(refreshed.etag(), cache.getApproved().etag());
+    }
+
+    @Test
+    void searchKeysIgnoreCaseOfTextFilters() {
+        ProjectService projectService = mock(ProjectService.class);
+        AtomicInteger queries = new AtomicInteger();
+        when(projectService.searchProjects(any(), any(), any(), any())).thenAnswer(invocation -> {
+            queries.incrementAndGet();
+            return List.of(project(1L, "Campus Maps"));
+        });
+        ProjectFeedCache cache = new ProjectFeedCache(projectService, new ObjectMapper().findAndRegisterModules(),
+                60_000, 1000);
+
+        cache.search("Maps", "APPROVED", "BCA", null);
+        cache.search("maps", "APPROVED", "bca", null);
+        cache.search("maps", "PENDING", "bca", null);
+
+        assertEquals(2, queries.get());
+    }
+
+    private static ProjectResponse project(Long id, String name) {
+        ProjectResponse project = new ProjectResponse();
+        project.setId(id);
+        project.setProjectName(name);
+        project.setStatus("APPROVED");
+        return project;
+    }
+}
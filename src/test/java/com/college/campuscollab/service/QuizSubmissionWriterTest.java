@@ -0,0 +1,173 @@
+package com.college.campuscollab.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Burst of 1,000 concurrent quiz submissions against a stubbed JdbcTemplate:
+ * every row must be written, in far fewer statements than rows. Failed
+ * batches are retried, and a row's callback only runs once it is written.
+ */
+class QuizSubmissionWriterTest {
+
+    private static final int SUBMISSIONS = 1_000;
+    private static final int CLIENT_THREADS = 50;
+
+    @Test
+    void burstIsWrittenInMultiRowInserts() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        AtomicInteger statements = new AtomicInteger();
+        AtomicInteger rows = new AtomicInteger();
+        AtomicLong scoreSum = new AtomicLong();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] args = sqlArgs(invocation.getArguments());
+            statements.incrementAndGet();
+            rows.addAndGet(args.length / 3);
+            for (int i = 0; i < args.length; i += 3) {
+                scoreSum.addAndGet((Integer) args[i]);
+            }
+            // Simulate a round trip so rows pile up behind the statement
+            Thread.sleep(2);
+            return args.length / 3;
+        });
+
+        QuizSubmissionWriter writer = new QuizSubmissionWriter(jdbcTemplate, 10_000, 500, 5, 1);
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENT_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            long userId = i;
+            clients.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                writer.enqueue(1L, userId, (int) (userId % 10), () -> { });
+            });
+        }
+        start.countDown();
+        clients.shutdown();
+        assertTrue(clients.awaitTermination(30, TimeUnit.SECONDS));
+
+        writer.close();
+
+        long expectedScoreSum = 0;
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            expectedScoreSum += i % 10;
+        }
+        assertEquals(SUBMISSIONS, rows.get());
+        assertEquals(expectedScoreSum, scoreSum.get());
+        // At least SUBMISSIONS / max-batch statements, and far fewer than one per row
+        assertTrue(statements.get() >= SUBMISSIONS / 500 && statements.get() < SUBMISSIONS / 10,
+                "expected multi-row inserts, got " + statements.get() + " statements");
+    }
+
+    @Test
+    void fullQueueFallsBackToSynchronousInsert() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        AtomicInteger rows = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] args = sqlArgs(invocation.getArguments());
+            if (Thread.currentThread() != caller) {
+                // Hold the writer thread so the queue fills up
+                release.await(5, TimeUnit.SECONDS);
+            }
+            rows.addAndGet(args.length / 3);
+            return args.length / 3;
+        });
+
+        QuizSubmissionWriter writer = new QuizSubmissionWriter(jdbcTemplate, 2, 500, 0, 1);
+        for (int i = 0; i < 10; i++) {
+            writer.enqueue(1L, i, 1, () -> { });
+        }
+        release.countDown();
+        writer.close();
+
+        assertEquals(10, rows.get());
+    }
+
+    @Test
+    void failedBatchIsRetriedAndCallbacksWaitForTheCommit() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger rows = new AtomicInteger();
+        AtomicInteger callbacksBeforeCommit = new AtomicInteger();
+        AtomicInteger callbacks = new AtomicInteger();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] args = sqlArgs(invocation.getArguments());
+            if (attempts.incrementAndGet() <= 3) {
+                callbacksBeforeCommit.set(callbacks.get());
+                throw new DataAccessResourceFailureException("database unavailable");
+            }
+            rows.addAndGet(args.length / 3);
+            return args.length / 3;
+        });
+
+        QuizSubmissionWriter writer = new QuizSubmissionWriter(jdbcTemplate, 100, 500, 20, 1);
+        for (int i = 0; i < 10; i++) {
+            writer.enqueue(1L, i, 1, callbacks::incrementAndGet);
+        }
+        writer.close();
+
+        assertEquals(10, rows.get());
+        assertEquals(10, callbacks.get());
+        assertEquals(0, callbacksBeforeCommit.get());
+        assertEquals(0, writer.queuedCount());
+    }
+
+    @Test
+    void rejectedRowIsDroppedWithoutCallback() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        AtomicInteger rows = new AtomicInteger();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] args = sqlArgs(invocation.getArguments());
+            for (int i = 2; i < args.length; i += 3) {
+                if ((Long) args[i] == 3L) {
+                    throw new DataIntegrityViolationException("no such user");
+                }
+            }
+            rows.addAndGet(args.length / 3);
+            return args.length / 3;
+        });
+
+        QuizSubmissionWriter writer = new QuizSubmissionWriter(jdbcTemplate, 100, 500, 20, 1);
+        List<Long> written = new CopyOnWriteArrayList<>();
+        for (long i = 0; i < 5; i++) {
+            long userId = i;
+            writer.enqueue(1L, userId, 1, () -> written.add(userId));
+        }
+        writer.close();
+
+        assertEquals(4, rows.get());
+        assertEquals(List.of(0L, 1L, 2L, 4L), written);
+        assertEquals(0, writer.queuedCount());
+    }
+
+    // Mockito passes varargs expanded: [sql, arg1, arg2, ...]
+    private static Object[] sqlArgs(Object[] invocationArgs) {
+        return Arrays.copyOfRange(invocationArgs, 1, invocationArgs.length);
+    }
+}